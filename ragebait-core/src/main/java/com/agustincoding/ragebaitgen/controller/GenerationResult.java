@@ -0,0 +1,21 @@
+package com.agustincoding.ragebaitgen.controller;
+
+import com.agustincoding.ragebaitgen.model.Post;
+
+/**
+ * Outcome of one generation: the post (null if generation failed) and where it was saved
+ */
+public record GenerationResult(String requestId,
+                               Post post,
+                               String savedFilename,
+                               Exception saveError,
+                               long latencyMillis) {
+
+    public boolean isSuccess() {
+        return post != null;
+    }
+
+    public boolean isSaved() {
+        return post != null && saveError == null;
+    }
+}
@@ -0,0 +1,298 @@
+package com.agustincoding.ragebaitgen.controller;
+
+import com.agustincoding.ragebaitgen.export.ExportFilter;
+import com.agustincoding.ragebaitgen.export.ExportFormat;
+import com.agustincoding.ragebaitgen.export.PostExporter;
+import com.agustincoding.ragebaitgen.gemini.GeminiService;
+import com.agustincoding.ragebaitgen.gemini.RagebaitPromptBuilder;
+import com.agustincoding.ragebaitgen.logging.Log;
+import com.agustincoding.ragebaitgen.logging.Logger;
+import com.agustincoding.ragebaitgen.model.Post;
+import com.agustincoding.ragebaitgen.model.PostRequest;
+import com.agustincoding.ragebaitgen.parsing.AIResponseParser;
+import com.agustincoding.ragebaitgen.persistence.ImportCheckpoint;
+import com.agustincoding.ragebaitgen.persistence.LegacyPostArchiver;
+import com.agustincoding.ragebaitgen.persistence.LegacyPostImporter;
+import com.agustincoding.ragebaitgen.persistence.PostFileStore;
+import com.agustincoding.ragebaitgen.persistence.PostHistoryStore;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Instant;
+
+/**
+ * View-agnostic controller for post generation: validation, prompt, Gemini call, parsing and persistence.
+ * It has no UI dependencies, so it can be driven by the Swing front end, a CLI, tests or benchmarks.
+ * generate() blocks; callers decide which thread runs it.
+ */
+public class PostGenerationController {
+
+    private static final Logger LOG = Log.getLogger(PostGenerationController.class);
+
+    // Sub-directory of the output directory holding the binary history
+    public static final String HISTORY_DIRECTORY = "history";
+
+    // Past HOT_HISTORY_LIMIT uncompressed bytes, all but the newest HOT_HISTORY_KEEP move to the cold tier
+    private static final long HOT_HISTORY_LIMIT = 8L * 1024 * 1024;
+    private static final long HOT_HISTORY_KEEP = 1024 * 1024;
+
+    private final PostFileStore store;
+    private PostHistoryStore history;
+    private ImportCheckpoint importCheckpoint;
+
+    public PostGenerationController() {
+        this(new PostFileStore());
+    }
+
+    public PostGenerationController(PostFileStore store) {
+        this.store = store;
+    }
+
+    public PostFileStore getStore() {
+        return store;
+    }
+
+    /**
+     * Validates user input before generation - JDK 21 enhanced validation
+     * @return the error message to show, or null when the request is valid
+     */
+    public String validate(PostRequest request) {
+        if (request.subredditName().isBlank()) {
+            return "Please enter a subreddit name";
+        }
+
+        if (request.subredditDescription().isBlank()) {
+            return "Please enter a subreddit description";
+        }
+
+        // Additional validation for subreddit name format
+        if (!request.subredditName().matches("^[a-zA-Z0-9_]+$")) {
+            return "Subreddit name can only contain letters, numbers, and underscores";
+        }
+
+        return null;
+    }
+
+    /**
+     * Returns the binary history, or null until prepareStorage() has opened it
+     */
+    public synchronized PostHistoryStore getHistory() {
+        return history;
+    }
+
+    /**
+     * Ensures the output directory exists and opens the binary history
+     */
+    public synchronized void prepareStorage() throws IOException {
+        store.createDirectory();
+        if (history == null) {
+            Path historyDirectory = store.getDirectory().resolve(HISTORY_DIRECTORY);
+            history = PostHistoryStore.open(historyDirectory);
+            importCheckpoint = ImportCheckpoint.open(historyDirectory.resolve(ImportCheckpoint.FILE_NAME));
+        }
+    }
+
+    /**
+     * Closes the history and the import checkpoint opened by prepareStorage(); a later
+     * prepareStorage() opens them again
+     */
+    public synchronized void closeStorage() throws IOException {
+        try {
+            if (history != null) {
+                history.close();
+            }
+        } finally {
+            history = null;
+            try {
+                if (importCheckpoint != null) {
+                    importCheckpoint.close();
+                }
+            } finally {
+                importCheckpoint = null;
+            }
+        }
+    }
+
+    /**
+     * Copies the post files saved before the binary history existed into it.
+     * Blocks until done; files imported by an earlier run are skipped.
+     */
+    public LegacyPostImporter.Result importLegacyPosts(LegacyPostImporter.ProgressListener listener)
+            throws IOException {
+        PostHistoryStore target;
+        ImportCheckpoint checkpoint;
+        synchronized (this) {
+            if (history == null) {
+                throw new IllegalStateException("prepareStorage() must be called before importing");
+            }
+            target = history;
+            checkpoint = importCheckpoint;
+        }
+        return new LegacyPostImporter(store.getDirectory(), target, checkpoint).importAll(listener);
+    }
+
+    /**
+     * Compresses the older part of the history once the uncompressed part has grown past its limit
+     * @return the number of records moved to the compressed tier
+     */
+    public long compactHistory() throws IOException {
+        PostHistoryStore target = getHistory();
+        if (target == null) {
+            throw new IllegalStateException("prepareStorage() must be called before compacting");
+        }
+        if (target.hotSizeOnDisk() <= HOT_HISTORY_LIMIT) {
+            return 0;
+        }
+        return target.compact(HOT_HISTORY_KEEP);
+    }
+
+    /**
+     * Compresses the whole history and deletes the post text files already in it.
+     * Blocks until done; files not imported yet are kept.
+     */
+    public LegacyPostArchiver.Result archivePostFiles() throws IOException {
+        PostHistoryStore target;
+        ImportCheckpoint checkpoint;
+        synchronized (this) {
+            if (history == null) {
+                throw new IllegalStateException("prepareStorage() must be called before archiving");
+            }
+            target = history;
+            checkpoint = importCheckpoint;
+        }
+        return new LegacyPostArchiver(store.getDirectory(), target, checkpoint).archive();
+    }
+
+    /**
+     * Streams the matching history records to a file; blocks until the export is complete
+     */
+    public PostExporter.Result exportHistory(ExportFilter filter, ExportFormat format, Path target)
+            throws IOException {
+        PostHistoryStore source = getHistory();
+        if (source == null) {
+            throw new IllegalStateException("prepareStorage() must be called before exporting");
+        }
+        return PostExporter.export(source, filter, format, target);
+    }
+
+    /**
+     * Generates, parses and saves a post. Never throws for generation failures: a result
+     * without a post is returned instead, and a failed save is reported in the result.
+     */
+    public GenerationResult generate(PostRequest request, String requestId) {
+        return generate(request, requestId, null);
+    }
+
+    /**
+     * Same as generate(PostRequest, String), passing the raw response text to the listener as it
+     * streams in, before it is parsed into a post
+     */
+    public GenerationResult generate(PostRequest request, String requestId, GeminiService.TextListener listener) {
+        long start = System.nanoTime();
+        LOG.info("Generation started")
+                .field("requestId", requestId)
+                .field("phase", "generate")
+                .field("subreddit", request.subredditName())
+                .log();
+
+        Post post = generateRagebaitPost(request, requestId, listener);
+
+        String savedFilename = null;
+        Exception saveError = null;
+        if (post != null) {
+            post.setCreatedAt(Instant.now());
+            PostHistoryStore target;
+            ImportCheckpoint checkpoint;
+            synchronized (this) {
+                target = history;
+                checkpoint = importCheckpoint;
+            }
+            // Held until the saved file is checkpointed, so a running legacy import cannot add it too
+            synchronized (checkpoint != null ? checkpoint : store) {
+                long persistStart = System.nanoTime();
+                try {
+                    savedFilename = store.save(post);
+                    LOG.info("Post saved")
+                            .field("requestId", requestId)
+                            .field("phase", "persist")
+                            .field("latencyMs", elapsedMillis(persistStart))
+                            .field("file", savedFilename)
+                            .log();
+                } catch (IOException e) {
+                    saveError = e;
+                    LOG.error("Failed to save post", e)
+                            .field("requestId", requestId)
+                            .field("phase", "persist")
+                            .log();
+                }
+                if (target != null) {
+                    appendToHistory(target, checkpoint, post, savedFilename, requestId);
+                }
+            }
+        }
+
+        long latency = elapsedMillis(start);
+        LOG.info("Generation finished")
+                .field("requestId", requestId)
+                .field("phase", "complete")
+                .field("success", post != null)
+                .field("latencyMs", latency)
+                .log();
+        return new GenerationResult(requestId, post, savedFilename, saveError, latency);
+    }
+
+    /**
+     * Generates a ragebait post using Gemini AI with enhanced error handling
+     */
+    private Post generateRagebaitPost(PostRequest request, String requestId, GeminiService.TextListener listener) {
+        try {
+            String prompt = RagebaitPromptBuilder.build(request);
+            // Transport failures and oversized responses fail the generation
+            String aiResponse = GeminiService.requestText(prompt, requestId, listener);
+
+            if (aiResponse == null || aiResponse.isBlank()) {
+                throw new RuntimeException("Empty response from AI service");
+            }
+
+            long parseStart = System.nanoTime();
+            Post post = AIResponseParser.parse(aiResponse, request, requestId);
+            LOG.debug("Response parsed")
+                    .field("requestId", requestId)
+                    .field("phase", "parse")
+                    .field("latencyMs", elapsedMillis(parseStart))
+                    .log();
+            return post;
+
+        } catch (Exception e) {
+            LOG.error("Error in generateRagebaitPost", e)
+                    .field("requestId", requestId)
+                    .field("phase", "generate")
+                    .log();
+            return null;
+        }
+    }
+
+    /**
+     * Adds the post to the binary history; the text file stays the user-facing copy,
+     * so a failure here is only logged. The saved file is checkpointed so the legacy
+     * importer does not add the same post a second time.
+     */
+    private static void appendToHistory(PostHistoryStore target, ImportCheckpoint checkpoint, Post post,
+                                        String savedFilename, String requestId) {
+        try {
+            target.append(post, post.getCreatedAt());
+            if (savedFilename != null) {
+                checkpoint.markImported(savedFilename);
+            }
+        } catch (IOException e) {
+            LOG.error("Failed to append post to history", e)
+                    .field("requestId", requestId)
+                    .field("phase", "persist")
+                    .log();
+        }
+    }
+
+    private static long elapsedMillis(long startNanos) {
+        return (System.nanoTime() - startNanos) / 1_000_000;
+    }
+}
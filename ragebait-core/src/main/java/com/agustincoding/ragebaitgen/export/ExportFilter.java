@@ -0,0 +1,54 @@
+package com.agustincoding.ragebaitgen.export;
+
+import com.agustincoding.ragebaitgen.persistence.StoredPost;
+
+import java.time.Instant;
+import java.util.Locale;
+
+/**
+ * Selects the history records to export. Null or blank criteria match everything.
+ * The date range is [from, to); subreddit must match exactly (ignoring case and an "r/" prefix) and
+ * topic matches when the post's topic contains it (ignoring case).
+ */
+public record ExportFilter(Instant from, Instant to, String subreddit, String topic) {
+
+    public ExportFilter {
+        subreddit = normalize(subreddit);
+        if (subreddit != null && subreddit.startsWith("r/")) {
+            subreddit = subreddit.substring(2);
+        }
+        topic = normalize(topic);
+        if (from != null && to != null && !from.isBefore(to)) {
+            throw new IllegalArgumentException("Export start must be before its end");
+        }
+    }
+
+    public static ExportFilter all() {
+        return new ExportFilter(null, null, null, null);
+    }
+
+    /**
+     * Checks the timestamp first, so records outside the range never touch their strings
+     */
+    public boolean matches(StoredPost post) {
+        long createdAt = post.getCreatedAtMillis();
+        if (from != null && createdAt < from.toEpochMilli()) {
+            return false;
+        }
+        if (to != null && createdAt >= to.toEpochMilli()) {
+            return false;
+        }
+        if (subreddit != null && !subreddit.equalsIgnoreCase(post.getSubreddit())) {
+            return false;
+        }
+        if (topic != null) {
+            String postTopic = post.getTopic();
+            return postTopic != null && postTopic.toLowerCase(Locale.ROOT).contains(topic);
+        }
+        return true;
+    }
+
+    private static String normalize(String value) {
+        return value == null || value.isBlank() ? null : value.trim().toLowerCase(Locale.ROOT);
+    }
+}
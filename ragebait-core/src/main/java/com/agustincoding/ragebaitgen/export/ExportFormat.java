@@ -0,0 +1,124 @@
+package com.agustincoding.ragebaitgen.export;
+
+import com.agustincoding.ragebaitgen.persistence.StoredPost;
+import org.json.JSONObject;
+
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * Export renderers; each writes one record at a time, so nothing is buffered beyond the current post
+ */
+public enum ExportFormat {
+
+    JSONL("jsonl") {
+        @Override
+        void writeRecord(Writer out, StoredPost post) throws IOException {
+            out.write("{\"createdAt\":");
+            out.write(JSONObject.quote(post.getCreatedAt().toString()));
+            writeJsonField(out, "subreddit", post.getSubreddit());
+            writeJsonField(out, "subredditDescription", post.getSubredditDescription());
+            writeJsonField(out, "limitations", post.getLimitations());
+            writeJsonField(out, "topic", post.getTopic());
+            writeJsonField(out, "intensity", post.getIntensity().name());
+            writeJsonField(out, "title", post.getTitle());
+            writeJsonField(out, "content", post.getContent());
+            writeJsonField(out, "generationPrompt", post.getGenerationPrompt());
+            out.write("}\n");
+        }
+    },
+
+    CSV("csv") {
+        @Override
+        void writeHeader(Writer out) throws IOException {
+            out.write("created_at,subreddit,topic,intensity,title,content,subreddit_description,limitations\r\n");
+        }
+
+        @Override
+        void writeRecord(Writer out, StoredPost post) throws IOException {
+            writeCsvField(out, post.getCreatedAt().toString());
+            out.write(',');
+            writeCsvField(out, post.getSubreddit());
+            out.write(',');
+            writeCsvField(out, post.getTopic());
+            out.write(',');
+            writeCsvField(out, post.getIntensity().name());
+            out.write(',');
+            writeCsvField(out, post.getTitle());
+            out.write(',');
+            writeCsvField(out, post.getContent());
+            out.write(',');
+            writeCsvField(out, post.getSubredditDescription());
+            out.write(',');
+            writeCsvField(out, post.getLimitations());
+            out.write("\r\n");
+        }
+    },
+
+    MARKDOWN("md") {
+        @Override
+        void writeHeader(Writer out) throws IOException {
+            out.write("# Ragebait Post Export\n\n");
+        }
+
+        @Override
+        void writeRecord(Writer out, StoredPost post) throws IOException {
+            // Same layout as the in-app formatted post, one section per record
+            out.write("## Generated at ");
+            out.write(post.getCreatedAt().toString());
+            out.write("\n\n");
+            out.write(post.toPost().getFormattedPost());
+            out.write("\n\n---\n\n");
+        }
+    };
+
+    private final String extension;
+
+    ExportFormat(String extension) {
+        this.extension = extension;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+
+    void writeHeader(Writer out) throws IOException {
+        // No header by default
+    }
+
+    abstract void writeRecord(Writer out, StoredPost post) throws IOException;
+
+    private static void writeJsonField(Writer out, String name, String value) throws IOException {
+        out.write(",\"");
+        out.write(name);
+        out.write("\":");
+        out.write(value == null ? "null" : JSONObject.quote(value));
+    }
+
+    // RFC 4180: fields with separators, quotes or line breaks are quoted, quotes are doubled
+    private static void writeCsvField(Writer out, String value) throws IOException {
+        if (value == null) {
+            return;
+        }
+        boolean quote = false;
+        for (int i = 0; i < value.length() && !quote; i++) {
+            char c = value.charAt(i);
+            quote = c == ',' || c == '"' || c == '\n' || c == '\r';
+        }
+        if (!quote) {
+            out.write(value);
+            return;
+        }
+        out.write('"');
+        int start = 0;
+        for (int i = 0; i < value.length(); i++) {
+            if (value.charAt(i) == '"') {
+                out.write(value, start, i + 1 - start);
+                out.write('"');
+                start = i + 1;
+            }
+        }
+        out.write(value, start, value.length() - start);
+        out.write('"');
+    }
+}
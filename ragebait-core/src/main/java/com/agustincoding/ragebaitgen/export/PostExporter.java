@@ -0,0 +1,100 @@
+package com.agustincoding.ragebaitgen.export;
+
+import com.agustincoding.ragebaitgen.logging.Log;
+import com.agustincoding.ragebaitgen.logging.Logger;
+import com.agustincoding.ragebaitgen.persistence.PostHistoryStore;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Streams history records to JSONL, CSV or Markdown.
+ * Records are read with PostHistoryStore.scan() and rendered one at a time into a large output
+ * buffer, so memory use stays constant whatever the size of the history.
+ */
+public final class PostExporter {
+
+    private static final Logger LOG = Log.getLogger(PostExporter.class);
+
+    private static final int WRITE_BUFFER_SIZE = 256 * 1024;
+
+    /**
+     * Outcome of an export; scanned counts every record read, exported the ones that matched
+     */
+    public record Result(long scanned, long exported, long latencyMillis) {
+    }
+
+    private PostExporter() {
+        // Utility class
+    }
+
+    /**
+     * Exports to a file. The output is written next to the target and moved into place once
+     * complete, so a failed export never leaves a truncated file behind.
+     */
+    public static Result export(PostHistoryStore history, ExportFilter filter, ExportFormat format, Path target)
+            throws IOException {
+        Path absolute = target.toAbsolutePath();
+        Path partial = absolute.resolveSibling(absolute.getFileName() + ".part");
+        Result result;
+        try (FileChannel channel = FileChannel.open(partial, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            result = export(history, filter, format, channel);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(partial);
+            throw e;
+        }
+
+        try {
+            Files.move(partial, absolute, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(partial, absolute, StandardCopyOption.REPLACE_EXISTING);
+        }
+
+        LOG.info("History exported")
+                .field("phase", "export")
+                .field("format", format.name())
+                .field("file", absolute)
+                .field("scanned", result.scanned())
+                .field("exported", result.exported())
+                .field("latencyMs", result.latencyMillis())
+                .log();
+        return result;
+    }
+
+    /**
+     * Exports to any channel; the channel is flushed but not closed
+     */
+    public static Result export(PostHistoryStore history, ExportFilter filter, ExportFormat format,
+                                WritableByteChannel channel) throws IOException {
+        long start = System.nanoTime();
+        long[] counts = new long[2];
+
+        // Not closed: closing the writer would close the caller's channel
+        Writer out = new OutputStreamWriter(
+                new BufferedOutputStream(Channels.newOutputStream(channel), WRITE_BUFFER_SIZE),
+                StandardCharsets.UTF_8);
+        format.writeHeader(out);
+        history.scan((offset, post) -> {
+            counts[0]++;
+            if (filter.matches(post)) {
+                format.writeRecord(out, post);
+                counts[1]++;
+            }
+        });
+        out.flush();
+
+        return new Result(counts[0], counts[1], (System.nanoTime() - start) / 1_000_000);
+    }
+}
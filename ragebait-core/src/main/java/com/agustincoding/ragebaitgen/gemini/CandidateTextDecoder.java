@@ -0,0 +1,354 @@
+package com.agustincoding.ragebaitgen.gemini;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Streaming decoder for a generateContent response body, fed chunk by chunk as the transport
+ * delivers it. Only candidates[0].content.parts[*].text is kept (plus error.message, for failed
+ * requests); everything else is checked for well-formed JSON and dropped as it goes by, so the
+ * response body itself is never buffered. The candidate text limit is enforced per character,
+ * which fails an oversized response at the chunk that crosses it. An optional TextListener gets the
+ * candidate text decoded from each chunk as soon as the chunk is consumed.
+ *
+ * Not thread-safe: one decoder per response.
+ */
+final class CandidateTextDecoder implements GeminiTransport.ResponseSink {
+
+    static final String CANDIDATE_TEXT = "candidate text";
+
+    // Longer keys cannot be one of the keys we look for, so only this many characters are kept
+    private static final int MAX_KEY_CHARS = 32;
+    private static final int MAX_ERROR_CHARS = 1000;
+    private static final int MAX_LITERAL_CHARS = 64;
+    private static final int MAX_DEPTH = 256;
+
+    private enum State {
+        VALUE, VALUE_OR_END, KEY, KEY_OR_END, COLON, COMMA_OR_END, DONE,
+        STRING, ESCAPE, UNICODE, LITERAL
+    }
+
+    // What the characters of the current string go to
+    private enum Target { NONE, KEY, TEXT, ERROR }
+
+    // One open object or array: the key being read in an object, the element index in an array
+    private static final class Frame {
+        private final boolean object;
+        private String key;
+        private int index;
+
+        private Frame(boolean object) {
+            this.object = object;
+        }
+    }
+
+    private final int maxCandidateChars;
+    private final GeminiService.TextListener listener;
+    private final List<Frame> stack = new ArrayList<>();
+    private final StringBuilder text = new StringBuilder();
+    private final StringBuilder key = new StringBuilder(MAX_KEY_CHARS);
+    private final StringBuilder literal = new StringBuilder();
+    private StringBuilder errorMessage;
+
+    private State state = State.VALUE;
+    private Target target = Target.NONE;
+    private int unicodeDigits;
+    private int unicodeValue;
+    private long position;
+
+    private boolean sawCandidate;
+    private boolean sawText;
+    private int peakRetainedChars;
+
+    CandidateTextDecoder(int maxCandidateChars) {
+        this(maxCandidateChars, null);
+    }
+
+    /**
+     * @param listener receives each chunk's share of the candidate text, or null
+     */
+    CandidateTextDecoder(int maxCandidateChars, GeminiService.TextListener listener) {
+        this.maxCandidateChars = maxCandidateChars;
+        this.listener = listener;
+    }
+
+    @Override
+    public void onChunk(String chunk) throws IOException {
+        int textBefore = text.length();
+        for (int i = 0; i < chunk.length(); i++) {
+            accept(chunk.charAt(i));
+            position++;
+        }
+        peakRetainedChars = Math.max(peakRetainedChars, retainedChars());
+        if (listener != null && text.length() > textBefore) {
+            listener.onText(text.substring(textBefore));
+        }
+    }
+
+    /**
+     * Ends the body and returns the candidate text
+     * @throws IOException when the body is incomplete or malformed, reports an error, or has no candidate text
+     */
+    String finish() throws IOException {
+        if (state == State.LITERAL && stack.isEmpty()) {
+            endLiteral();
+        }
+        if (state != State.DONE) {
+            throw malformed("unexpected end of response");
+        }
+        if (!sawCandidate) {
+            if (errorMessage != null) {
+                throw new IOException("Gemini returned an error: " + errorMessage);
+            }
+            throw new IOException("No candidates in Gemini response");
+        }
+        if (!sawText) {
+            throw new IOException("No text in the first Gemini candidate");
+        }
+        return text.toString();
+    }
+
+    /**
+     * Most characters held at once while decoding: the candidate text plus the small key, literal
+     * and error buffers. The body itself is never kept, so this bounds the decoder's footprint.
+     */
+    int getPeakRetainedChars() {
+        return peakRetainedChars;
+    }
+
+    private int retainedChars() {
+        return text.length() + key.length() + literal.length() + (errorMessage == null ? 0 : errorMessage.length());
+    }
+
+    private void accept(char c) throws IOException {
+        switch (state) {
+            case STRING -> {
+                if (c == '"') {
+                    endString();
+                } else if (c == '\\') {
+                    state = State.ESCAPE;
+                } else if (c < 0x20) {
+                    throw malformed("control character in string");
+                } else {
+                    append(c);
+                }
+            }
+            case ESCAPE -> {
+                state = State.STRING;
+                switch (c) {
+                    case '"', '\\', '/' -> append(c);
+                    case 'b' -> append('\b');
+                    case 'f' -> append('\f');
+                    case 'n' -> append('\n');
+                    case 'r' -> append('\r');
+                    case 't' -> append('\t');
+                    case 'u' -> {
+                        state = State.UNICODE;
+                        unicodeDigits = 0;
+                        unicodeValue = 0;
+                    }
+                    default -> throw malformed("invalid escape");
+                }
+            }
+            case UNICODE -> {
+                int digit = Character.digit(c, 16);
+                if (digit < 0) {
+                    throw malformed("invalid unicode escape");
+                }
+                unicodeValue = unicodeValue * 16 + digit;
+                if (++unicodeDigits == 4) {
+                    state = State.STRING;
+                    append((char) unicodeValue);
+                }
+            }
+            case LITERAL -> {
+                if (isLiteralChar(c)) {
+                    if (literal.length() == MAX_LITERAL_CHARS) {
+                        throw malformed("value too long");
+                    }
+                    literal.append(c);
+                } else {
+                    endLiteral();
+                    accept(c);
+                }
+            }
+            default -> {
+                if (!isWhitespace(c)) {
+                    acceptStructural(c);
+                }
+            }
+        }
+    }
+
+    private void acceptStructural(char c) throws IOException {
+        switch (state) {
+            case VALUE, VALUE_OR_END -> {
+                if (c == ']' && state == State.VALUE_OR_END) {
+                    close();
+                } else {
+                    beginValue(c);
+                }
+            }
+            case KEY, KEY_OR_END -> {
+                if (c == '"') {
+                    key.setLength(0);
+                    target = Target.KEY;
+                    state = State.STRING;
+                } else if (c == '}' && state == State.KEY_OR_END) {
+                    close();
+                } else {
+                    throw malformed("expected a key");
+                }
+            }
+            case COLON -> {
+                if (c != ':') {
+                    throw malformed("expected ':'");
+                }
+                state = State.VALUE;
+            }
+            case COMMA_OR_END -> {
+                Frame top = stack.get(stack.size() - 1);
+                if (c == ',') {
+                    if (top.object) {
+                        state = State.KEY;
+                    } else {
+                        top.index++;
+                        state = State.VALUE;
+                    }
+                } else if (c == (top.object ? '}' : ']')) {
+                    close();
+                } else {
+                    throw malformed("expected ',' or the end of the " + (top.object ? "object" : "array"));
+                }
+            }
+            case DONE -> throw malformed("data after the end of the response");
+            default -> throw new IllegalStateException(state.name());
+        }
+    }
+
+    private void beginValue(char c) throws IOException {
+        if (stack.size() == 2 && isKey(0, "candidates") && !stack.get(1).object) {
+            sawCandidate = true;
+        }
+        switch (c) {
+            case '{', '[' -> {
+                if (stack.size() == MAX_DEPTH) {
+                    throw malformed("nested too deeply");
+                }
+                stack.add(new Frame(c == '{'));
+                state = c == '{' ? State.KEY_OR_END : State.VALUE_OR_END;
+            }
+            case '"' -> {
+                target = stringTarget();
+                if (target == Target.TEXT) {
+                    sawText = true;
+                } else if (target == Target.ERROR) {
+                    errorMessage = new StringBuilder();
+                }
+                state = State.STRING;
+            }
+            default -> {
+                if (!isLiteralChar(c)) {
+                    throw malformed("unexpected '" + c + "'");
+                }
+                literal.setLength(0);
+                literal.append(c);
+                state = State.LITERAL;
+            }
+        }
+    }
+
+    private void endString() {
+        if (target == Target.KEY) {
+            stack.get(stack.size() - 1).key = key.length() <= MAX_KEY_CHARS ? key.toString() : null;
+            key.setLength(0);
+            state = State.COLON;
+        } else {
+            endValue();
+        }
+        target = Target.NONE;
+    }
+
+    private void endLiteral() throws IOException {
+        String value = literal.toString();
+        literal.setLength(0);
+        boolean valid = value.equals("true") || value.equals("false") || value.equals("null") || isNumber(value);
+        if (!valid) {
+            throw malformed("invalid value '" + value + "'");
+        }
+        endValue();
+    }
+
+    private void close() {
+        stack.remove(stack.size() - 1);
+        endValue();
+    }
+
+    private void endValue() {
+        state = stack.isEmpty() ? State.DONE : State.COMMA_OR_END;
+    }
+
+    private void append(char c) throws IOException {
+        switch (target) {
+            case TEXT -> {
+                if (text.length() >= maxCandidateChars) {
+                    throw new ResponseTooLargeException(CANDIDATE_TEXT, maxCandidateChars);
+                }
+                text.append(c);
+            }
+            case KEY -> {
+                if (key.length() <= MAX_KEY_CHARS) {
+                    key.append(c);
+                }
+            }
+            case ERROR -> {
+                if (errorMessage.length() < MAX_ERROR_CHARS) {
+                    errorMessage.append(c);
+                }
+            }
+            case NONE -> {
+                // Not a value we keep
+            }
+        }
+    }
+
+    // candidates[0].content.parts[*].text, or error.message
+    private Target stringTarget() {
+        if (stack.size() == 6
+                && isKey(0, "candidates")
+                && stack.get(1).index == 0
+                && isKey(2, "content")
+                && isKey(3, "parts")
+                && !stack.get(4).object
+                && isKey(5, "text")) {
+            return Target.TEXT;
+        }
+        if (stack.size() == 2 && isKey(0, "error") && isKey(1, "message")) {
+            return Target.ERROR;
+        }
+        return Target.NONE;
+    }
+
+    private boolean isKey(int depth, String name) {
+        Frame frame = stack.get(depth);
+        return frame.object && name.equals(frame.key);
+    }
+
+    private IOException malformed(String reason) {
+        return new IOException("Malformed Gemini response at character " + position + ": " + reason);
+    }
+
+    private static boolean isWhitespace(char c) {
+        return c == ' ' || c == '\n' || c == '\r' || c == '\t';
+    }
+
+    private static boolean isLiteralChar(char c) {
+        return (c >= '0' && c <= '9') || (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z')
+                || c == '-' || c == '+' || c == '.';
+    }
+
+    private static boolean isNumber(String value) {
+        return value.matches("-?(0|[1-9][0-9]*)(\\.[0-9]+)?([eE][+-]?[0-9]+)?");
+    }
+}
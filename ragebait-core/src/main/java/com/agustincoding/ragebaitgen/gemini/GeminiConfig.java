@@ -0,0 +1,86 @@
+package com.agustincoding.ragebaitgen.gemini;
+
+import com.agustincoding.ragebaitgen.logging.Log;
+import com.agustincoding.ragebaitgen.logging.Logger;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Properties;
+
+/**
+ * Lazily loaded configuration for the Gemini service.
+ * Values come from config.properties on the classpath and can be overridden by
+ * environment variables with the same name (e.g. GEMINI_API_KEY), so the key
+ * does not need to live in the packaged resources.
+ */
+public final class GeminiConfig {
+
+    private static final Logger LOG = Log.getLogger(GeminiConfig.class);
+
+    // Name of the configuration file containing URL and API key
+    private static final String CONFIG_FILE = "config.properties";
+
+    public static final String URL_KEY = "GEMINI_URL";
+    public static final String API_KEY_KEY = "GEMINI_API_KEY";
+
+    private final Properties properties;
+
+    private GeminiConfig(Properties properties) {
+        this.properties = properties;
+    }
+
+    /**
+     * Returns the shared configuration, loading it on first use.
+     * Nothing is read at class-init time, so a missing or broken file never
+     * stops the UI from starting; the error surfaces on the first request instead.
+     */
+    public static GeminiConfig get() {
+        return Holder.INSTANCE;
+    }
+
+    public String getUrl() {
+        return lookup(URL_KEY);
+    }
+
+    public String getApiKey() {
+        return lookup(API_KEY_KEY);
+    }
+
+    /**
+     * Returns true when both the endpoint and the API key are available
+     */
+    public boolean isComplete() {
+        return !getUrl().isBlank() && !getApiKey().isBlank();
+    }
+
+    /**
+     * Looks up a value, giving priority to the environment over the properties file
+     */
+    public String lookup(String key) {
+        String fromEnv = System.getenv(key);
+        if (fromEnv != null && !fromEnv.isBlank()) {
+            return fromEnv.trim();
+        }
+        return properties.getProperty(key, "").trim();
+    }
+
+    private static Properties loadProperties() {
+        Properties prop = new Properties();
+        try (InputStream is = GeminiConfig.class
+                .getClassLoader()
+                .getResourceAsStream(CONFIG_FILE)) {
+            // The file is optional when the values are provided through the environment
+            if (is != null) {
+                prop.load(is);
+            }
+        } catch (IOException e) {
+            LOG.error("Error loading configuration", e).field("file", CONFIG_FILE).log();
+        }
+        return prop;
+    }
+
+    // Initialization-on-demand holder: the file is read the first time get() is called
+    private static final class Holder {
+        private static final GeminiConfig INSTANCE = new GeminiConfig(loadProperties());
+    }
+}
@@ -0,0 +1,204 @@
+package com.agustincoding.ragebaitgen.gemini;
+
+import com.agustincoding.ragebaitgen.logging.Log;
+import com.agustincoding.ragebaitgen.logging.Logger;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+public class GeminiService {
+
+    private static final Logger LOG = Log.getLogger(GeminiService.class);
+
+    // Fixture file to record live exchanges to, or to replay them from instead of calling the API
+    public static final String RECORD_PROPERTY = "ragebait.gemini.record";
+    public static final String REPLAY_PROPERTY = "ragebait.gemini.replay";
+    // With replay: deliver chunks with their recorded timing instead of immediately
+    public static final String REPLAY_REALTIME_PROPERTY = "ragebait.gemini.replay.realtime";
+
+    private static final String RESPONSE_BODY = "response body";
+
+    /**
+     * Receives the candidate text as it is decoded, in order; called on the thread running the request
+     */
+    @FunctionalInterface
+    public interface TextListener {
+        void onText(String fragment);
+    }
+
+    private static GeminiTransport transport;
+    private static ResponseLimits responseLimits;
+
+    private GeminiService() {
+        // Private constructor to prevent instantiation (utility class with only static methods)
+    }
+
+    /**
+     * Main method that sends a message (prompt) to the Gemini service and returns the response as text.
+     * This method performs:
+     *  - Building the JSON with the message
+     *  - Sending it through the transport (HTTP POST by default, see getTransport)
+     *  - Reading the JSON response
+     *  - Parsing to extract only the relevant text and returning it
+     */
+    public static String getResponseTo(String message) {
+        return getResponseTo(message, Log.newRequestId());
+    }
+
+    /**
+     * Same as getResponseTo(String), tagging the log records with the caller's request id
+     */
+    public static String getResponseTo(String message, String requestId) {
+        try {
+            return requestText(message, requestId);
+        } catch (IOException e) {
+            // Already logged by requestText; callers of this method get the error as text
+            return "Error: " + e.getMessage();
+        }
+    }
+
+    /**
+     * Sends the prompt and returns the text of the first candidate, throwing on failure instead of
+     * returning an error message. The response is decoded while it streams in and the body itself is
+     * not kept (see CandidateTextDecoder): a body or candidate text over its ResponseLimits fails with
+     * ResponseTooLargeException at the chunk that crosses it, and a malformed body, an error body or
+     * a response without candidate text fails with an IOException. Each request logs peakRetainedChars,
+     * the most response characters held in memory at once.
+     */
+    public static String requestText(String message, String requestId) throws IOException {
+        return requestText(message, requestId, null);
+    }
+
+    /**
+     * Same as requestText(String, String), also handing each decoded piece of the candidate text
+     * to the listener while the response streams in. The pieces are raw model output: a request
+     * that fails later still has delivered what it decoded so far.
+     */
+    public static String requestText(String message, String requestId, TextListener listener) throws IOException {
+        long start = System.nanoTime();
+        ResponseLimits limits = getResponseLimits();
+        CandidateTextDecoder decoder = new CandidateTextDecoder(limits.maxCandidateChars(), listener);
+        long[] responseChars = new long[1];
+        try {
+            // Build the JSON with the user’s message
+            String promptJson = buildPromptJson(message);
+
+            // Decode the response body as the transport delivers it, up to the limit
+            int maxResponseChars = limits.maxResponseChars();
+            getTransport().exchange(promptJson, chunk -> {
+                if (chunk.length() > maxResponseChars - responseChars[0]) {
+                    throw new ResponseTooLargeException(RESPONSE_BODY, maxResponseChars);
+                }
+                responseChars[0] += chunk.length();
+                decoder.onChunk(chunk);
+            });
+
+            LOG.info("Response received")
+                    .field("requestId", requestId)
+                    .field("phase", "http")
+                    .field("latencyMs", elapsedMillis(start))
+                    .field("promptChars", message.length())
+                    .field("responseChars", responseChars[0])
+                    .log();
+
+            String text = decoder.finish();
+
+            LOG.info("Response decoded")
+                    .field("requestId", requestId)
+                    .field("phase", "decode")
+                    .field("candidateChars", text.length())
+                    .field("peakRetainedChars", decoder.getPeakRetainedChars())
+                    .log();
+            return text;
+
+        } catch (IOException e) {
+            // In case of error, log it with how far the request got
+            LOG.error("Request to Gemini failed", e)
+                    .field("requestId", requestId)
+                    .field("phase", e instanceof ResponseTooLargeException ? "limit" : "http")
+                    .field("latencyMs", elapsedMillis(start))
+                    .field("responseChars", responseChars[0])
+                    .field("peakRetainedChars", decoder.getPeakRetainedChars())
+                    .log();
+            throw e;
+        }
+    }
+
+    /**
+     * Returns the limits applied to responses, read from the system properties on first use (see ResponseLimits)
+     */
+    public static synchronized ResponseLimits getResponseLimits() {
+        if (responseLimits == null) {
+            responseLimits = ResponseLimits.fromSystemProperties();
+        }
+        return responseLimits;
+    }
+
+    /**
+     * Replaces the response limits; null restores the ones from the system properties
+     */
+    public static synchronized void setResponseLimits(ResponseLimits limits) {
+        responseLimits = limits;
+    }
+
+    /**
+     * Returns the transport used by getResponseTo, creating the default one on first use:
+     * replay from the fixture named by ragebait.gemini.replay, otherwise the live endpoint,
+     * recorded to the fixture named by ragebait.gemini.record when that property is set
+     */
+    public static synchronized GeminiTransport getTransport() throws IOException {
+        if (transport == null) {
+            transport = createDefaultTransport();
+        }
+        return transport;
+    }
+
+    /**
+     * Replaces the transport, e.g. with a ReplayTransport for offline benchmarks; null restores the default
+     */
+    public static synchronized void setTransport(GeminiTransport newTransport) {
+        transport = newTransport;
+    }
+
+    private static GeminiTransport createDefaultTransport() throws IOException {
+        String replayFixture = System.getProperty(REPLAY_PROPERTY);
+        if (replayFixture != null && !replayFixture.isBlank()) {
+            ReplayTransport replay = ReplayTransport.load(Path.of(replayFixture),
+                    Boolean.getBoolean(REPLAY_REALTIME_PROPERTY));
+            LOG.info("Replaying Gemini exchanges")
+                    .field("file", replayFixture)
+                    .field("exchanges", replay.getExchanges().size())
+                    .field("realtime", replay.isRealtime())
+                    .log();
+            return replay;
+        }
+
+        GeminiTransport live = new HttpGeminiTransport();
+        String recordFixture = System.getProperty(RECORD_PROPERTY);
+        if (recordFixture != null && !recordFixture.isBlank()) {
+            LOG.info("Recording Gemini exchanges").field("file", recordFixture).log();
+            return new RecordingTransport(live, Path.of(recordFixture));
+        }
+        return live;
+    }
+
+    // Method that builds the JSON with the structure expected by the service, including the input text
+    private static String buildPromptJson(String input) {
+        return "{\n" +
+                "  \"contents\": [\n" +
+                "    {\n" +
+                "      \"role\": \"user\",\n" +
+                "      \"parts\": [\n" +
+                "        {\n" +
+                "          \"text\": \"" + input.replace("\"", "\\\"") + "\"\n" +
+                "        }\n" +
+                "      ]\n" +
+                "    }\n" +
+                "  ]\n" +
+                "}";
+    }
+
+    private static long elapsedMillis(long startNanos) {
+        return (System.nanoTime() - startNanos) / 1_000_000;
+    }
+}
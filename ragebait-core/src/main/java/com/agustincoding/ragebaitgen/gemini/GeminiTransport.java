@@ -0,0 +1,24 @@
+package com.agustincoding.ragebaitgen.gemini;
+
+import java.io.IOException;
+
+/**
+ * Carries one request/response exchange with the Gemini endpoint.
+ * GeminiService builds the request body and decodes the response; the transport only moves bytes,
+ * so the live HTTP call can be swapped for a recorded fixture (see RecordingTransport, ReplayTransport).
+ */
+public interface GeminiTransport {
+
+    /**
+     * Receives the response body piece by piece, in arrival order
+     */
+    @FunctionalInterface
+    interface ResponseSink {
+        void onChunk(String chunk) throws IOException;
+    }
+
+    /**
+     * Sends the JSON request body and feeds the response body to the sink as it arrives
+     */
+    void exchange(String requestBody, ResponseSink sink) throws IOException;
+}
@@ -0,0 +1,64 @@
+package com.agustincoding.ragebaitgen.gemini;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Live transport: POSTs the request to the endpoint from GeminiConfig.
+ * The response is delivered in blocks of at most BLOCK_CHARS characters as it is read from the connection,
+ * so the transport never holds more than one block, however long the lines of the body are.
+ */
+public class HttpGeminiTransport implements GeminiTransport {
+
+    static final int BLOCK_CHARS = 8192;
+
+    private final GeminiConfig config;
+
+    public HttpGeminiTransport() {
+        this(GeminiConfig.get());
+    }
+
+    public HttpGeminiTransport(GeminiConfig config) {
+        this.config = config;
+    }
+
+    @Override
+    public void exchange(String requestBody, ResponseSink sink) throws IOException {
+        if (!config.isComplete()) {
+            throw new IOException(GeminiConfig.URL_KEY + " and " + GeminiConfig.API_KEY_KEY
+                    + " must be set in config.properties or the environment");
+        }
+
+        // Build the URL with the endpoint and API key as parameter
+        URL url = new URL(config.getUrl() + "?key=" + config.getApiKey());
+        HttpURLConnection conn = (HttpURLConnection) url.openConnection();
+
+        conn.setRequestMethod("POST"); // POST method to send data
+        conn.setRequestProperty("Content-Type", "application/json"); // JSON content type
+        conn.setDoOutput(true); // Indicate that we’re sending data in the request body
+
+        // Send the JSON in the request body
+        try (OutputStream os = conn.getOutputStream()) {
+            byte[] input = requestBody.getBytes(StandardCharsets.UTF_8);
+            os.write(input, 0, input.length);
+        }
+
+        // Read the response received from the server
+        try (Reader reader = new InputStreamReader(conn.getInputStream(), StandardCharsets.UTF_8)) {
+            char[] block = new char[BLOCK_CHARS];
+            int read;
+            while ((read = reader.read(block)) != -1) {
+                sink.onChunk(new String(block, 0, read));
+            }
+        } catch (IOException e) {
+            // Drop the connection instead of draining an unread body for reuse (e.g. after a size limit)
+            conn.disconnect();
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.agustincoding.ragebaitgen.gemini;
+
+import com.agustincoding.ragebaitgen.model.PostRequest;
+
+/**
+ * Estimates the size of the prompt RagebaitPromptBuilder would build from the lengths of the inputs alone,
+ * so it can be refreshed on every keystroke without building the prompt or reading the input text.
+ *
+ * The fixed parts of the template are measured once by building it with empty inputs; the estimate is then
+ * fixed length + input lengths. Inputs are trimmed when the real prompt is built, so surrounding whitespace
+ * makes the estimate slightly high, never low. Tokens are approximated at 4 characters per token.
+ */
+public final class PromptSizeEstimator {
+
+    // Token count above which the estimate is flagged as a warning
+    public static final String WARN_TOKENS_PROPERTY = "ragebait.prompt.warnTokens";
+    public static final int DEFAULT_WARN_TOKENS = 4000;
+
+    private static final int CHARS_PER_TOKEN = 4;
+    private static final int WARN_TOKENS = Integer.getInteger(WARN_TOKENS_PROPERTY, DEFAULT_WARN_TOKENS);
+
+    private static final int BASE_CHARS;
+    private static final int LIMITATIONS_CHARS;
+    private static final int TOPIC_CHARS;
+
+    static {
+        // Measured from the builder itself so the estimate follows any change to the template
+        BASE_CHARS = RagebaitPromptBuilder.build(new PostRequest("", "", "", "")).length();
+        LIMITATIONS_CHARS = RagebaitPromptBuilder.build(new PostRequest("", "", "x", "")).length() - BASE_CHARS - 1;
+        TOPIC_CHARS = RagebaitPromptBuilder.build(new PostRequest("", "", "", "x")).length() - BASE_CHARS - 1;
+    }
+
+    private PromptSizeEstimator() {
+        // Utility class
+    }
+
+    /**
+     * Estimated prompt size; warning is set when the token estimate exceeds the configured threshold
+     */
+    public record Estimate(int chars, int tokens, int warnTokens) {
+
+        public boolean isWarning() {
+            return tokens > warnTokens;
+        }
+    }
+
+    /**
+     * Estimates the prompt for inputs of the given lengths in characters; constant time
+     */
+    public static Estimate estimate(int subredditNameLength, int subredditDescriptionLength,
+                                    int limitationsLength, int topicLength) {
+        int chars = BASE_CHARS + subredditNameLength + subredditDescriptionLength;
+        if (limitationsLength > 0) {
+            chars += LIMITATIONS_CHARS + limitationsLength;
+        }
+        if (topicLength > 0) {
+            chars += TOPIC_CHARS + topicLength;
+        }
+        return new Estimate(chars, estimateTokens(chars), WARN_TOKENS);
+    }
+
+    public static int estimateTokens(int chars) {
+        return (chars + CHARS_PER_TOKEN - 1) / CHARS_PER_TOKEN;
+    }
+}
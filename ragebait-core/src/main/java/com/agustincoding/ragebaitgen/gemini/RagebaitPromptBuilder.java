@@ -0,0 +1,98 @@
+package com.agustincoding.ragebaitgen.gemini;
+
+import com.agustincoding.ragebaitgen.model.PostRequest;
+
+/**
+ * Builds the ragebait prompt sent to Gemini from the generation inputs
+ */
+public final class RagebaitPromptBuilder {
+
+    private RagebaitPromptBuilder() {
+        // Utility class
+    }
+
+    /**
+     * Builds the enhanced prompt for Gemini AI including limitations - JDK 21 text blocks
+     */
+    public static String build(PostRequest request) {
+        // Using JDK 21 enhanced text blocks and string formatting
+        String basePrompt = """
+            🔥 **REDDIT RAGEBAIT POST GENERATOR** 🔥
+            
+            **YOUR MISSION:** Generate a highly engaging ragebait post for Reddit that will 
+            maximize emotional response and drive comments and engagement.
+            
+            **TARGET SUBREDDIT:** r/%s
+            **SUBREDDIT CONTEXT:** %s
+            """.formatted(request.subredditName(), request.subredditDescription());
+
+        StringBuilder prompt = new StringBuilder(basePrompt);
+
+        // Add limitations if provided
+        if (request.hasLimitations()) {
+            prompt.append("\n**CRITICAL SUBREDDIT RESTRICTIONS:** ").append(request.limitations());
+            prompt.append("\n**COMPLIANCE REQUIREMENT:** The generated post MUST strictly follow these limitations to avoid being removed or banned.\n");
+        }
+
+        // Add topic if provided
+        if (request.hasTopic()) {
+            prompt.append("\n**SPECIFIC TOPIC TO FOCUS ON:** ").append(request.topic()).append("\n");
+        }
+
+        // Enhanced psychological triggers section
+        String psychologicalSection = """
+            
+            **PSYCHOLOGICAL TRIGGERS TO ACTIVATE:**
+            🎯 MORAL OUTRAGE - Present a clear injustice that violates basic fairness
+            🎯 SOCIAL PROOF - Make readers feel they're on the 'right' side
+            🎯 SUPERIORITY COMPLEX - Include obviously wrong behavior for readers to judge
+            🎯 PERSONAL INVESTMENT - Use highly relatable situations that readers can identify with
+            🎯 CONFIRMATION BIAS - Align with common frustrations and widely-held beliefs
+            🎯 MISSING CONTEXT - Leave strategic gaps for reader assumptions and speculation
+            
+            **REQUIREMENTS:**
+            • Create a compelling, clickable title (under 300 characters)
+            • Write engaging content (300-800 words) that feels completely authentic
+            • Include realistic details, specific dialogue, and believable scenarios
+            • Build to a moral dilemma that seems obvious but includes doubt
+            • Use paragraph breaks for easy mobile reading
+            • End with a question that invites judgment, opinions, and discussion
+            
+            **WRITING STYLE:**
+            • Casual, authentic Reddit voice with natural imperfections
+            • First-person perspective with emotional investment
+            • Include specific details that make the story believable
+            • Use quotation marks for realistic dialogue
+            • Show, don't tell - let readers draw their own conclusions
+            • Create multiple comment-worthy discussion points
+            """;
+
+        prompt.append(psychologicalSection);
+
+        // Enhanced output format requirements
+        String formatSection = """
+            
+            **OUTPUT FORMAT (VERY IMPORTANT):**
+            Please format your response EXACTLY like this:
+            
+            TITLE: [Your engaging title here]
+            
+            CONTENT:
+            [Your complete post content here]
+            
+            **QUALITY CHECKLIST:**
+            ✅ Follows all subreddit restrictions
+            ✅ Contains clear moral conflict
+            ✅ Includes specific, believable details
+            ✅ Ends with engagement-driving question
+            ✅ Uses authentic Reddit voice
+            ✅ Creates multiple discussion points
+            
+            **GENERATE THE PERFECT RAGEBAIT POST NOW!**
+            """;
+
+        prompt.append(formatSection);
+
+        return prompt.toString();
+    }
+}
@@ -0,0 +1,64 @@
+package com.agustincoding.ragebaitgen.gemini;
+
+import org.json.JSONArray;
+import org.json.JSONObject;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * One captured exchange: the request body, every response chunk with its arrival time, and the
+ * total latency. error holds the transport failure message, or null when the exchange succeeded.
+ * Stored as one JSON object per line in a fixture file; the API key is never part of it.
+ */
+public record RecordedExchange(String requestBody, List<Chunk> chunks, long latencyMillis, String error) {
+
+    /**
+     * A piece of the response body and when it arrived, relative to the start of the exchange
+     */
+    public record Chunk(long atMillis, String text) {
+    }
+
+    public RecordedExchange {
+        chunks = List.copyOf(chunks);
+    }
+
+    public String responseBody() {
+        StringBuilder body = new StringBuilder();
+        for (Chunk chunk : chunks) {
+            body.append(chunk.text());
+        }
+        return body.toString();
+    }
+
+    public JSONObject toJson() {
+        JSONArray chunkArray = new JSONArray();
+        for (Chunk chunk : chunks) {
+            chunkArray.put(new JSONObject()
+                    .put("atMs", chunk.atMillis())
+                    .put("text", chunk.text()));
+        }
+        JSONObject json = new JSONObject()
+                .put("requestBody", requestBody)
+                .put("latencyMs", latencyMillis)
+                .put("chunks", chunkArray);
+        if (error != null) {
+            json.put("error", error);
+        }
+        return json;
+    }
+
+    public static RecordedExchange fromJson(JSONObject json) {
+        JSONArray chunkArray = json.getJSONArray("chunks");
+        List<Chunk> chunks = new ArrayList<>(chunkArray.length());
+        for (int i = 0; i < chunkArray.length(); i++) {
+            JSONObject chunk = chunkArray.getJSONObject(i);
+            chunks.add(new Chunk(chunk.getLong("atMs"), chunk.getString("text")));
+        }
+        return new RecordedExchange(
+                json.getString("requestBody"),
+                chunks,
+                json.getLong("latencyMs"),
+                json.has("error") ? json.getString("error") : null);
+    }
+}
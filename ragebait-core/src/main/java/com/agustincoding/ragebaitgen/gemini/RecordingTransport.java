@@ -0,0 +1,63 @@
+package com.agustincoding.ragebaitgen.gemini;
+
+import com.agustincoding.ragebaitgen.logging.Log;
+import com.agustincoding.ragebaitgen.logging.Logger;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Passes exchanges through to another transport and appends each one, with its chunk timing,
+ * to a fixture file that ReplayTransport can serve back. Failed exchanges are recorded too.
+ * The caller sees exactly what the delegate produced; a fixture write failure is only logged.
+ */
+public class RecordingTransport implements GeminiTransport {
+
+    private static final Logger LOG = Log.getLogger(RecordingTransport.class);
+
+    private final GeminiTransport delegate;
+    private final Path fixture;
+
+    public RecordingTransport(GeminiTransport delegate, Path fixture) {
+        this.delegate = delegate;
+        this.fixture = fixture;
+    }
+
+    public Path getFixture() {
+        return fixture;
+    }
+
+    @Override
+    public void exchange(String requestBody, ResponseSink sink) throws IOException {
+        long start = System.nanoTime();
+        List<RecordedExchange.Chunk> chunks = new ArrayList<>();
+        try {
+            delegate.exchange(requestBody, chunk -> {
+                chunks.add(new RecordedExchange.Chunk(elapsedMillis(start), chunk));
+                sink.onChunk(chunk);
+            });
+        } catch (IOException e) {
+            record(new RecordedExchange(requestBody, chunks, elapsedMillis(start), String.valueOf(e.getMessage())));
+            throw e;
+        }
+        record(new RecordedExchange(requestBody, chunks, elapsedMillis(start), null));
+    }
+
+    private synchronized void record(RecordedExchange exchange) {
+        try {
+            Files.writeString(fixture, exchange.toJson() + "\n", StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        } catch (IOException e) {
+            LOG.error("Failed to record Gemini exchange", e).field("file", fixture).log();
+        }
+    }
+
+    private static long elapsedMillis(long startNanos) {
+        return (System.nanoTime() - startNanos) / 1_000_000;
+    }
+}
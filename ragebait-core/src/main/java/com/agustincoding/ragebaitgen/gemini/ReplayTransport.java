@@ -0,0 +1,118 @@
+package com.agustincoding.ragebaitgen.gemini;
+
+import org.json.JSONObject;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Serves exchanges from a fixture written by RecordingTransport, without touching the network.
+ *
+ * A request whose body was recorded gets that recording (repeated requests cycle through all the
+ * recordings of the same body); any other request gets the next recording in file order. Both are
+ * deterministic for a given sequence of requests. In realtime mode every chunk is delivered at its
+ * recorded offset and the exchange lasts as long as the original; otherwise everything is immediate.
+ */
+public class ReplayTransport implements GeminiTransport {
+
+    private final List<RecordedExchange> exchanges;
+    private final Map<String, List<RecordedExchange>> byRequestBody = new HashMap<>();
+    private final boolean realtime;
+
+    private final Map<String, Integer> servedByRequestBody = new HashMap<>();
+    private int nextInOrder;
+
+    public ReplayTransport(List<RecordedExchange> exchanges, boolean realtime) {
+        if (exchanges.isEmpty()) {
+            throw new IllegalArgumentException("A replay needs at least one recorded exchange");
+        }
+        this.exchanges = List.copyOf(exchanges);
+        this.realtime = realtime;
+        for (RecordedExchange exchange : this.exchanges) {
+            byRequestBody.computeIfAbsent(exchange.requestBody(), body -> new ArrayList<>()).add(exchange);
+        }
+    }
+
+    /**
+     * Reads a fixture file: one RecordedExchange JSON object per line, blank lines ignored
+     */
+    public static ReplayTransport load(Path fixture, boolean realtime) throws IOException {
+        List<RecordedExchange> exchanges = new ArrayList<>();
+        try (BufferedReader reader = Files.newBufferedReader(fixture, StandardCharsets.UTF_8)) {
+            String line;
+            int lineNumber = 0;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank()) {
+                    continue;
+                }
+                try {
+                    exchanges.add(RecordedExchange.fromJson(new JSONObject(line)));
+                } catch (RuntimeException e) {
+                    throw new IOException("Invalid exchange on line " + lineNumber + " of " + fixture, e);
+                }
+            }
+        }
+        if (exchanges.isEmpty()) {
+            throw new IOException("No recorded exchanges in " + fixture);
+        }
+        return new ReplayTransport(exchanges, realtime);
+    }
+
+    public List<RecordedExchange> getExchanges() {
+        return exchanges;
+    }
+
+    public boolean isRealtime() {
+        return realtime;
+    }
+
+    @Override
+    public void exchange(String requestBody, ResponseSink sink) throws IOException {
+        RecordedExchange exchange = next(requestBody);
+        long start = System.nanoTime();
+        for (RecordedExchange.Chunk chunk : exchange.chunks()) {
+            waitUntil(start, chunk.atMillis());
+            sink.onChunk(chunk.text());
+        }
+        waitUntil(start, exchange.latencyMillis());
+        if (exchange.error() != null) {
+            throw new IOException(exchange.error());
+        }
+    }
+
+    private synchronized RecordedExchange next(String requestBody) {
+        List<RecordedExchange> matches = byRequestBody.get(requestBody);
+        if (matches != null) {
+            int served = servedByRequestBody.merge(requestBody, 1, Integer::sum) - 1;
+            return matches.get(served % matches.size());
+        }
+        RecordedExchange exchange = exchanges.get(nextInOrder);
+        nextInOrder = (nextInOrder + 1) % exchanges.size();
+        return exchange;
+    }
+
+    private void waitUntil(long startNanos, long offsetMillis) throws InterruptedIOException {
+        if (!realtime) {
+            return;
+        }
+        long remaining = offsetMillis - (System.nanoTime() - startNanos) / 1_000_000;
+        if (remaining <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(remaining);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Replay interrupted");
+        }
+    }
+}
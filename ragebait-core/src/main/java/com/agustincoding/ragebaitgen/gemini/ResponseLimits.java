@@ -0,0 +1,32 @@
+package com.agustincoding.ragebaitgen.gemini;
+
+/**
+ * Upper bounds on what GeminiService keeps in memory for one response, in characters.
+ * A normal post response is a few thousand characters; the defaults leave ample headroom while
+ * keeping a runaway or misconfigured upstream from filling the heap of the UI process.
+ */
+public record ResponseLimits(int maxResponseChars, int maxCandidateChars) {
+
+    public static final String MAX_RESPONSE_CHARS_PROPERTY = "ragebait.gemini.maxResponseChars";
+    public static final String MAX_CANDIDATE_CHARS_PROPERTY = "ragebait.gemini.maxCandidateChars";
+
+    public static final int DEFAULT_MAX_RESPONSE_CHARS = 2_000_000;
+    public static final int DEFAULT_MAX_CANDIDATE_CHARS = 200_000;
+
+    public ResponseLimits {
+        if (maxResponseChars <= 0 || maxCandidateChars <= 0) {
+            throw new IllegalArgumentException("Response limits must be positive: "
+                    + maxResponseChars + ", " + maxCandidateChars);
+        }
+    }
+
+    /**
+     * Reads the limits from ragebait.gemini.maxResponseChars and ragebait.gemini.maxCandidateChars,
+     * falling back to the defaults for the ones that are not set
+     */
+    public static ResponseLimits fromSystemProperties() {
+        return new ResponseLimits(
+                Integer.getInteger(MAX_RESPONSE_CHARS_PROPERTY, DEFAULT_MAX_RESPONSE_CHARS),
+                Integer.getInteger(MAX_CANDIDATE_CHARS_PROPERTY, DEFAULT_MAX_CANDIDATE_CHARS));
+    }
+}
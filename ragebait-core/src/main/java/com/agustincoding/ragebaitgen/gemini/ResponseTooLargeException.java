@@ -0,0 +1,30 @@
+package com.agustincoding.ragebaitgen.gemini;
+
+import java.io.IOException;
+
+/**
+ * Thrown when a response goes over one of the ResponseLimits. It is raised as soon as the limit
+ * is crossed, so the rest of the response is never read or kept.
+ */
+public class ResponseTooLargeException extends IOException {
+
+    private final String part;
+    private final int limitChars;
+
+    public ResponseTooLargeException(String part, int limitChars) {
+        super("Gemini " + part + " exceeds the limit of " + limitChars + " characters");
+        this.part = part;
+        this.limitChars = limitChars;
+    }
+
+    /**
+     * Which part of the response went over: "response body" or "candidate text"
+     */
+    public String getPart() {
+        return part;
+    }
+
+    public int getLimitChars() {
+        return limitChars;
+    }
+}
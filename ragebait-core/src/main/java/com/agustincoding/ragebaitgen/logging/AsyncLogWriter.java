@@ -0,0 +1,288 @@
+package com.agustincoding.ragebaitgen.logging;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Background writer fed by a bounded ring buffer.
+ * Producers only offer records to the buffer: when it is full the record is dropped and counted
+ * instead of blocking the EDT or a worker. A single daemon thread formats the records as JSON
+ * lines and writes them to a rolling set of files (name.log, name.log.1, ...).
+ */
+final class AsyncLogWriter implements Runnable {
+
+    private static final int BATCH_SIZE = 256;
+    private static final int WRITE_BUFFER_SIZE = 64 * 1024;
+
+    private final ArrayBlockingQueue<LogRecord> buffer;
+    private final Path directory;
+    private final String baseName;
+    private final long maxFileBytes;
+    private final int maxBackups;
+    private final String sessionId;
+    private final AtomicLong dropped = new AtomicLong();
+
+    private final Thread thread;
+    private volatile boolean running = true;
+
+    // Only touched by the writer thread
+    private Writer out;
+    private long currentFileBytes;
+    private boolean fileUnavailable;
+
+    AsyncLogWriter(Path directory, String baseName, long maxFileBytes, int maxBackups,
+                   int capacity, String sessionId) {
+        this.buffer = new ArrayBlockingQueue<>(capacity);
+        this.directory = directory;
+        this.baseName = baseName;
+        this.maxFileBytes = maxFileBytes;
+        this.maxBackups = maxBackups;
+        this.sessionId = sessionId;
+        this.thread = new Thread(this, "async-log-writer");
+        this.thread.setDaemon(true);
+    }
+
+    void start() {
+        thread.start();
+    }
+
+    /**
+     * Hands a record to the writer; returns false if it was dropped because the buffer is full
+     */
+    boolean offer(LogRecord record) {
+        if (buffer.offer(record)) {
+            return true;
+        }
+        dropped.incrementAndGet();
+        return false;
+    }
+
+    @Override
+    public void run() {
+        List<LogRecord> batch = new ArrayList<>(BATCH_SIZE);
+        while (running || !buffer.isEmpty()) {
+            try {
+                LogRecord first = buffer.poll(250, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    flush();
+                    continue;
+                }
+                batch.add(first);
+                buffer.drainTo(batch, BATCH_SIZE - 1);
+                writeBatch(batch);
+                batch.clear();
+                // Flush once the burst is over, not after every record
+                if (buffer.isEmpty()) {
+                    flush();
+                }
+            } catch (InterruptedException e) {
+                running = false;
+            }
+        }
+        writeBatch(drainRemaining());
+        close();
+    }
+
+    /**
+     * Stops accepting work and waits briefly for queued records to reach the disk
+     */
+    void shutdown(long timeoutMillis) {
+        running = false;
+        try {
+            thread.join(timeoutMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private List<LogRecord> drainRemaining() {
+        List<LogRecord> remaining = new ArrayList<>();
+        buffer.drainTo(remaining);
+        return remaining;
+    }
+
+    private void writeBatch(List<LogRecord> batch) {
+        long droppedNow = dropped.getAndSet(0);
+        if (droppedNow > 0) {
+            writeLine(formatDropped(droppedNow));
+        }
+        for (LogRecord record : batch) {
+            writeLine(format(record));
+            // Errors are mirrored to the console so they stay visible during development
+            if (record.level() == LogLevel.ERROR) {
+                System.err.println("[" + record.level() + "] " + record.logger() + ": " + record.message()
+                        + (record.error() != null ? " - " + record.error() : ""));
+            }
+        }
+    }
+
+    private void writeLine(String line) {
+        if (!ensureOpen()) {
+            System.err.println(line);
+            return;
+        }
+        try {
+            out.write(line);
+            out.write('\n');
+            // Approximation: log lines are mostly ASCII
+            currentFileBytes += line.length() + 1;
+            if (currentFileBytes >= maxFileBytes) {
+                roll();
+            }
+        } catch (IOException e) {
+            System.err.println("Log write failed: " + e.getMessage());
+            close();
+            fileUnavailable = true;
+        }
+    }
+
+    private boolean ensureOpen() {
+        if (out != null) {
+            return true;
+        }
+        if (fileUnavailable) {
+            return false;
+        }
+        try {
+            Files.createDirectories(directory);
+            Path file = directory.resolve(baseName);
+            currentFileBytes = Files.exists(file) ? Files.size(file) : 0;
+            out = new BufferedWriter(Files.newBufferedWriter(file, StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND), WRITE_BUFFER_SIZE);
+            return true;
+        } catch (IOException e) {
+            // Fall back to the console for the rest of the session
+            System.err.println("Cannot open log file, logging to console: " + e.getMessage());
+            fileUnavailable = true;
+            return false;
+        }
+    }
+
+    // name.log.(n-1) -> name.log.n, ..., name.log -> name.log.1
+    private void roll() throws IOException {
+        close();
+        Path current = directory.resolve(baseName);
+        Files.deleteIfExists(directory.resolve(baseName + "." + maxBackups));
+        for (int i = maxBackups - 1; i >= 1; i--) {
+            Path source = directory.resolve(baseName + "." + i);
+            if (Files.exists(source)) {
+                Files.move(source, directory.resolve(baseName + "." + (i + 1)), StandardCopyOption.REPLACE_EXISTING);
+            }
+        }
+        if (Files.exists(current)) {
+            Files.move(current, directory.resolve(baseName + ".1"), StandardCopyOption.REPLACE_EXISTING);
+        }
+        currentFileBytes = 0;
+    }
+
+    private void flush() {
+        if (out == null) {
+            return;
+        }
+        try {
+            out.flush();
+        } catch (IOException e) {
+            System.err.println("Log flush failed: " + e.getMessage());
+        }
+    }
+
+    private void close() {
+        if (out == null) {
+            return;
+        }
+        try {
+            out.close();
+        } catch (IOException e) {
+            System.err.println("Log close failed: " + e.getMessage());
+        }
+        out = null;
+    }
+
+    private String format(LogRecord record) {
+        StringBuilder sb = new StringBuilder(256);
+        sb.append('{');
+        appendField(sb, "ts", Instant.ofEpochMilli(record.timestampMillis()).toString(), true);
+        appendField(sb, "level", record.level().name(), false);
+        appendField(sb, "session", sessionId, false);
+        appendField(sb, "logger", record.logger(), false);
+        appendField(sb, "thread", record.thread(), false);
+        appendField(sb, "msg", record.message(), false);
+        for (Map.Entry<String, Object> field : record.fields().entrySet()) {
+            appendField(sb, field.getKey(), field.getValue(), false);
+        }
+        if (record.error() != null) {
+            StringWriter trace = new StringWriter();
+            record.error().printStackTrace(new PrintWriter(trace));
+            appendField(sb, "error", record.error().toString(), false);
+            appendField(sb, "stack", trace.toString(), false);
+        }
+        sb.append('}');
+        return sb.toString();
+    }
+
+    private String formatDropped(long count) {
+        StringBuilder sb = new StringBuilder(128);
+        sb.append('{');
+        appendField(sb, "ts", Instant.now().toString(), true);
+        appendField(sb, "level", LogLevel.WARN.name(), false);
+        appendField(sb, "session", sessionId, false);
+        appendField(sb, "logger", AsyncLogWriter.class.getSimpleName(), false);
+        appendField(sb, "msg", "Log buffer full, records dropped", false);
+        appendField(sb, "dropped", count, false);
+        sb.append('}');
+        return sb.toString();
+    }
+
+    private static void appendField(StringBuilder sb, String key, Object value, boolean first) {
+        if (!first) {
+            sb.append(',');
+        }
+        appendString(sb, key);
+        sb.append(':');
+        if (value == null) {
+            sb.append("null");
+        } else if (value instanceof Number || value instanceof Boolean) {
+            sb.append(value);
+        } else {
+            appendString(sb, value.toString());
+        }
+    }
+
+    // Minimal JSON string escaping
+    private static void appendString(StringBuilder sb, String value) {
+        sb.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"' -> sb.append("\\\"");
+                case '\\' -> sb.append("\\\\");
+                case '\n' -> sb.append("\\n");
+                case '\r' -> sb.append("\\r");
+                case '\t' -> sb.append("\\t");
+                default -> {
+                    if (c < 0x20) {
+                        sb.append("\\u%04x".formatted((int) c));
+                    } else {
+                        sb.append(c);
+                    }
+                }
+            }
+        }
+        sb.append('"');
+    }
+}
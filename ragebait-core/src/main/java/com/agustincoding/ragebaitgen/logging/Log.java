@@ -0,0 +1,80 @@
+package com.agustincoding.ragebaitgen.logging;
+
+import java.nio.file.Path;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Entry point of the asynchronous logging pipeline.
+ * Every record carries the session id of this run so a session can be followed from start to end
+ * in the rolling log files. Settings come from system properties:
+ *  - ragebait.log.level  DEBUG, INFO (default), WARN or ERROR
+ *  - ragebait.log.dir    directory of the log files (default "logs")
+ */
+public final class Log {
+
+    private static final String LEVEL_PROPERTY = "ragebait.log.level";
+    private static final String DIRECTORY_PROPERTY = "ragebait.log.dir";
+
+    private static final String FILE_NAME = "ragebait.log";
+    private static final long MAX_FILE_BYTES = 5L * 1024 * 1024;
+    private static final int MAX_BACKUPS = 5;
+    private static final int BUFFER_CAPACITY = 4096;
+
+    private static final String SESSION_ID = UUID.randomUUID().toString().substring(0, 8);
+    private static final AtomicLong REQUEST_COUNTER = new AtomicLong();
+
+    private static volatile LogLevel level = LogLevel.parse(System.getProperty(LEVEL_PROPERTY), LogLevel.INFO);
+
+    private Log() {
+        // Static facade
+    }
+
+    public static Logger getLogger(Class<?> type) {
+        return new Logger(type.getSimpleName());
+    }
+
+    public static LogLevel getLevel() {
+        return level;
+    }
+
+    public static void setLevel(LogLevel newLevel) {
+        level = newLevel;
+    }
+
+    public static String sessionId() {
+        return SESSION_ID;
+    }
+
+    /**
+     * Creates an id for one generation request, unique within the session (e.g. "3f2a9c1d-7")
+     */
+    public static String newRequestId() {
+        return SESSION_ID + "-" + REQUEST_COUNTER.incrementAndGet();
+    }
+
+    static void submit(LogRecord record) {
+        Writer.INSTANCE.offer(record);
+    }
+
+    /**
+     * Flushes pending records; called from the shutdown hook, safe to call more than once
+     */
+    public static void shutdown() {
+        Writer.INSTANCE.shutdown(2000);
+    }
+
+    // The writer thread and its files are only created once something is logged
+    private static final class Writer {
+        private static final AsyncLogWriter INSTANCE = create();
+
+        private static AsyncLogWriter create() {
+            Path directory = Path.of(System.getProperty(DIRECTORY_PROPERTY, "logs"));
+            AsyncLogWriter writer = new AsyncLogWriter(directory, FILE_NAME, MAX_FILE_BYTES,
+                    MAX_BACKUPS, BUFFER_CAPACITY, SESSION_ID);
+            writer.start();
+            Runtime.getRuntime().addShutdownHook(new Thread(Log::shutdown, "log-shutdown"));
+            return writer;
+        }
+    }
+}
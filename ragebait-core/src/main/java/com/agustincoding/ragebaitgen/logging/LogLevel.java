@@ -0,0 +1,29 @@
+package com.agustincoding.ragebaitgen.logging;
+
+/**
+ * Severity levels, from most to least verbose
+ */
+public enum LogLevel {
+    DEBUG,
+    INFO,
+    WARN,
+    ERROR;
+
+    public boolean isAtLeast(LogLevel threshold) {
+        return ordinal() >= threshold.ordinal();
+    }
+
+    /**
+     * Parses a level name, falling back to the default when it is unknown
+     */
+    public static LogLevel parse(String name, LogLevel defaultLevel) {
+        if (name == null || name.isBlank()) {
+            return defaultLevel;
+        }
+        try {
+            return valueOf(name.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            return defaultLevel;
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.agustincoding.ragebaitgen.logging;
+
+import java.util.Map;
+
+/**
+ * Immutable log entry handed from the producing thread to the background writer.
+ * Formatting happens on the writer thread, so building a record stays cheap.
+ */
+record LogRecord(long timestampMillis,
+                 LogLevel level,
+                 String logger,
+                 String thread,
+                 String message,
+                 Map<String, Object> fields,
+                 Throwable error) {
+}
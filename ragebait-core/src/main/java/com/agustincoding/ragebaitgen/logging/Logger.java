@@ -0,0 +1,111 @@
+package com.agustincoding.ragebaitgen.logging;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Named logger producing structured events.
+ * Usage:
+ *   LOG.info("Response received").field("requestId", id).field("latencyMs", ms).log();
+ * When the level is filtered out a shared no-op event is returned, so disabled calls allocate nothing.
+ */
+public final class Logger {
+
+    private final String name;
+
+    Logger(String name) {
+        this.name = name;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public boolean isEnabled(LogLevel level) {
+        return level.isAtLeast(Log.getLevel());
+    }
+
+    public Event debug(String message) {
+        return event(LogLevel.DEBUG, message, null);
+    }
+
+    public Event info(String message) {
+        return event(LogLevel.INFO, message, null);
+    }
+
+    public Event warn(String message) {
+        return event(LogLevel.WARN, message, null);
+    }
+
+    public Event warn(String message, Throwable error) {
+        return event(LogLevel.WARN, message, error);
+    }
+
+    public Event error(String message) {
+        return event(LogLevel.ERROR, message, null);
+    }
+
+    public Event error(String message, Throwable error) {
+        return event(LogLevel.ERROR, message, error);
+    }
+
+    private Event event(LogLevel level, String message, Throwable error) {
+        if (!isEnabled(level)) {
+            return Event.DISABLED;
+        }
+        return new Event(this, level, message, error);
+    }
+
+    /**
+     * A log event being built; nothing is queued until log() is called
+     */
+    public static class Event {
+
+        // Returned for filtered levels: every method is a no-op
+        static final Event DISABLED = new Event(null, null, null, null);
+
+        private final Logger logger;
+        private final LogLevel level;
+        private final String message;
+        private final Throwable error;
+        private Map<String, Object> fields;
+
+        private Event(Logger logger, LogLevel level, String message, Throwable error) {
+            this.logger = logger;
+            this.level = level;
+            this.message = message;
+            this.error = error;
+        }
+
+        /**
+         * Adds a structured field such as requestId, phase or latencyMs
+         */
+        public Event field(String key, Object value) {
+            if (this == DISABLED) {
+                return this;
+            }
+            if (fields == null) {
+                fields = new LinkedHashMap<>();
+            }
+            fields.put(key, value);
+            return this;
+        }
+
+        /**
+         * Queues the event for the background writer; never blocks the calling thread
+         */
+        public void log() {
+            if (this == DISABLED) {
+                return;
+            }
+            Log.submit(new LogRecord(
+                    System.currentTimeMillis(),
+                    level,
+                    logger.name,
+                    Thread.currentThread().getName(),
+                    message,
+                    fields == null ? Map.of() : fields,
+                    error));
+        }
+    }
+}
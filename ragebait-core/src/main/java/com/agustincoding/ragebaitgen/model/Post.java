@@ -1,5 +1,6 @@
 package com.agustincoding.ragebaitgen.model;
 
+import java.time.Instant;
 import java.util.Objects;
 
 /**
@@ -19,6 +20,7 @@ public class Post {
     // Generation metadata
     private PostIntensity intensity;
     private String generationPrompt; // The prompt used to generate this post
+    private Instant createdAt; // When the post was generated; null until it is stored
 
     // Enums for simplified configuration
     // Currently not usable on GUI but will when it's improved
@@ -98,6 +100,11 @@ public class Post {
             return this;
         }
 
+        public Builder createdAt(Instant createdAt) {
+            post.createdAt = createdAt;
+            return this;
+        }
+
         public Post build() {
             // Basic validation
             if (post.title == null || post.title.trim().isEmpty()) {
@@ -181,6 +188,14 @@ public class Post {
         this.generationPrompt = generationPrompt;
     }
 
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(Instant createdAt) {
+        this.createdAt = createdAt;
+    }
+
     // Helper methods
     public int getContentLength() {
         return content != null ? content.length() : 0;
@@ -0,0 +1,30 @@
+package com.agustincoding.ragebaitgen.model;
+
+/**
+ * Inputs of a post generation, independent of where they were typed.
+ * Values are stored trimmed; limitations and topic are empty strings when not provided.
+ */
+public record PostRequest(String subredditName,
+                          String subredditDescription,
+                          String limitations,
+                          String topic) {
+
+    public PostRequest {
+        subredditName = normalize(subredditName);
+        subredditDescription = normalize(subredditDescription);
+        limitations = normalize(limitations);
+        topic = normalize(topic);
+    }
+
+    public boolean hasLimitations() {
+        return !limitations.isBlank();
+    }
+
+    public boolean hasTopic() {
+        return !topic.isBlank();
+    }
+
+    private static String normalize(String value) {
+        return value == null ? "" : value.trim();
+    }
+}
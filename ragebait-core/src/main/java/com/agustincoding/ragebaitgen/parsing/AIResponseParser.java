@@ -0,0 +1,159 @@
+package com.agustincoding.ragebaitgen.parsing;
+
+import com.agustincoding.ragebaitgen.logging.Log;
+import com.agustincoding.ragebaitgen.logging.Logger;
+import com.agustincoding.ragebaitgen.model.Post;
+import com.agustincoding.ragebaitgen.model.PostRequest;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Turns the raw text returned by Gemini into a Post, with fallbacks for loosely formatted answers
+ */
+public final class AIResponseParser {
+
+    private static final Logger LOG = Log.getLogger(AIResponseParser.class);
+
+    private AIResponseParser() {
+        // Utility class
+    }
+
+    /**
+     * Parses the AI response into a Post object with enhanced error handling
+     */
+    public static Post parse(String aiResponse, PostRequest request, String requestId) {
+        try {
+            // Extract title using improved regex
+            String title = extractField(aiResponse, "TITLE:");
+            if (title == null || title.isBlank()) {
+                // Enhanced fallback: look for lines that could be titles
+                title = findPotentialTitle(aiResponse);
+            }
+
+            // Extract content with better parsing
+            String content = extractContent(aiResponse);
+            if (content == null || content.isBlank()) {
+                // Fallback: clean the response and use it as content
+                content = cleanResponseAsContent(aiResponse);
+            }
+
+            // Create Post object using builder pattern
+            Post.Builder builder = new Post.Builder()
+                    .title(title != null ? title.trim() : "Generated Ragebait Post")
+                    .content(content.trim())
+                    .subreddit(request.subredditName())
+                    .subredditDescription(request.subredditDescription())
+                    .intensity(Post.PostIntensity.MODERATE); // Default intensity
+
+            // Add optional fields if present
+            if (request.hasLimitations()) {
+                builder.limitations(request.limitations());
+            }
+
+            if (request.hasTopic()) {
+                builder.topic(request.topic());
+            }
+
+            return builder.build();
+
+        } catch (Exception e) {
+            LOG.warn("Error parsing AI response, using fallback post", e)
+                    .field("requestId", requestId)
+                    .field("phase", "parse")
+                    .log();
+            // Create fallback post with error handling
+            return createFallbackPost(aiResponse, request);
+        }
+    }
+
+    /**
+     * Enhanced field extraction with better regex patterns
+     */
+    private static String extractField(String response, String fieldName) {
+        // Try multiple patterns for more reliable extraction
+        Pattern[] patterns = {
+                Pattern.compile(fieldName + "\\s*([^\n]+)", Pattern.CASE_INSENSITIVE),
+                Pattern.compile("\\*\\*" + fieldName + "\\*\\*\\s*([^\n]+)", Pattern.CASE_INSENSITIVE),
+                Pattern.compile(fieldName.replace(":", "") + ":\\s*([^\n]+)", Pattern.CASE_INSENSITIVE)
+        };
+
+        for (Pattern pattern : patterns) {
+            Matcher matcher = pattern.matcher(response);
+            if (matcher.find()) {
+                return matcher.group(1).trim();
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Enhanced content extraction with multiple fallback patterns
+     */
+    private static String extractContent(String response) {
+        // Primary pattern: everything after "CONTENT:" until end or next section
+        Pattern[] patterns = {
+                Pattern.compile("CONTENT:\\s*\n(.*?)(?:\n\n\\*\\*|$)", Pattern.DOTALL | Pattern.CASE_INSENSITIVE),
+                Pattern.compile("CONTENT:\\s*\n(.*)", Pattern.DOTALL | Pattern.CASE_INSENSITIVE),
+                Pattern.compile("\\*\\*CONTENT:\\*\\*\\s*\n(.*?)(?:\n\n\\*\\*|$)", Pattern.DOTALL | Pattern.CASE_INSENSITIVE)
+        };
+
+        for (Pattern pattern : patterns) {
+            Matcher matcher = pattern.matcher(response);
+            if (matcher.find()) {
+                String content = matcher.group(1).trim();
+                if (!content.isBlank()) {
+                    return content;
+                }
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * JDK 21 enhanced method to find potential titles in unstructured text
+     */
+    private static String findPotentialTitle(String response) {
+        String[] lines = response.split("\n");
+
+        // Look for lines that could be titles (reasonable length, not too short)
+        for (String line : lines) {
+            String cleaned = line.trim();
+            if (cleaned.length() > 10 && cleaned.length() < 300 &&
+                    !cleaned.toLowerCase().contains("content") &&
+                    !cleaned.startsWith("**") &&
+                    !cleaned.startsWith("🔥")) {
+                return cleaned;
+            }
+        }
+
+        return "Generated Ragebait Post";
+    }
+
+    /**
+     * Clean the AI response to use as content when parsing fails
+     */
+    private static String cleanResponseAsContent(String response) {
+        return response
+                .replaceAll("\\*\\*[^*]+\\*\\*", "") // Remove markdown headers
+                .replaceAll("🔥|✅", "") // Remove emojis
+                .replaceAll("TITLE:.*?\n", "") // Remove title lines
+                .replaceAll("CONTENT:\\s*\n", "") // Remove content headers
+                .trim();
+    }
+
+    /**
+     * Creates a fallback post if parsing fails completely
+     */
+    private static Post createFallbackPost(String aiResponse, PostRequest request) {
+        return new Post.Builder()
+                .title("Generated Ragebait Post - " + request.subredditName())
+                .content(cleanResponseAsContent(aiResponse))
+                .subreddit(request.subredditName())
+                .subredditDescription(request.subredditDescription())
+                .limitations(request.hasLimitations() ? request.limitations() : null)
+                .intensity(Post.PostIntensity.MODERATE)
+                .build();
+    }
+}
@@ -0,0 +1,161 @@
+package com.agustincoding.ragebaitgen.parsing;
+
+import com.agustincoding.ragebaitgen.model.Post;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+
+/**
+ * Reads back the text files written by PostFileStore.formatPostForFile into a Post.
+ * Header values may span several lines (descriptions and limitations come from text areas),
+ * so each one runs until the next known header instead of the end of its line.
+ */
+public final class LegacyPostParser {
+
+    private static final String DASHES = "-".repeat(50);
+    private static final String GENERATED_AT = "\nGenerated at: ";
+    private static final String TITLE_SECTION = "\nTITLE:\n" + DASHES + "\n";
+    private static final String CONTENT_SECTION = "\nCONTENT:\n" + DASHES + "\n";
+    private static final String SECTION_END = "\n" + DASHES;
+    private static final String CONTENT_END = SECTION_END + "\n\nMETADATA:";
+
+    // Header lines in the order formatPostForFile writes them; limitations and topic are optional
+    private static final String SUBREDDIT = "\nSUBREDDIT: r/";
+    private static final String DESCRIPTION = "\nSUBREDDIT DESCRIPTION: ";
+    private static final String LIMITATIONS = "\nSUBREDDIT LIMITATIONS: ";
+    private static final String TOPIC = "\nTOPIC FOCUS: ";
+    private static final String INTENSITY = "\nINTENSITY LEVEL: ";
+    private static final String[] HEADERS = {SUBREDDIT, DESCRIPTION, LIMITATIONS, TOPIC, INTENSITY};
+
+    /**
+     * A parsed file; generatedAt is null when the header line is missing or unreadable
+     */
+    public record Result(Post post, LocalDateTime generatedAt) {
+    }
+
+    private LegacyPostParser() {
+        // Utility class
+    }
+
+    /**
+     * Parses the full text of one file
+     * @throws IllegalArgumentException when a required section is missing
+     * @throws IllegalStateException when the title, content or subreddit is empty
+     */
+    public static Result parse(String text) {
+        String normalized = text.indexOf('\r') >= 0 ? text.replace("\r\n", "\n") : text;
+
+        int titleSection = normalized.indexOf(TITLE_SECTION);
+        if (titleSection < 0) {
+            throw new IllegalArgumentException("Missing TITLE section");
+        }
+        String[] headers = readHeaders(normalized, titleSection);
+
+        int titleStart = titleSection + TITLE_SECTION.length();
+        int titleEnd = normalized.indexOf(SECTION_END, titleStart);
+        if (titleEnd < 0) {
+            throw new IllegalArgumentException("Unterminated TITLE section");
+        }
+
+        int contentSection = normalized.indexOf(CONTENT_SECTION, titleEnd);
+        if (contentSection < 0) {
+            throw new IllegalArgumentException("Missing CONTENT section");
+        }
+        int contentStart = contentSection + CONTENT_SECTION.length();
+        int contentEnd = normalized.lastIndexOf(CONTENT_END);
+        if (contentEnd < contentStart) {
+            // No METADATA section (truncated file): the content ends at the last dashed line
+            contentEnd = normalized.lastIndexOf(SECTION_END);
+        }
+        if (contentEnd < contentStart) {
+            throw new IllegalArgumentException("Unterminated CONTENT section");
+        }
+
+        Post.Builder builder = new Post.Builder()
+                .title(normalized.substring(titleStart, titleEnd).strip())
+                .content(normalized.substring(contentStart, contentEnd).strip())
+                .subreddit(headers[0])
+                .subredditDescription(headers[1])
+                .intensity(parseIntensity(headers[4]));
+
+        if (headers[2] != null) {
+            builder.limitations(headers[2]);
+        }
+
+        if (headers[3] != null) {
+            builder.topic(headers[3]);
+        }
+
+        return new Result(builder.build(), parseGeneratedAt(normalized, titleSection));
+    }
+
+    /**
+     * Returns the value of each entry of HEADERS, or null for the ones not present
+     */
+    private static String[] readHeaders(String text, int end) {
+        int[] starts = new int[HEADERS.length];
+        int cursor = 0;
+        for (int i = 0; i < HEADERS.length; i++) {
+            starts[i] = text.indexOf(HEADERS[i], cursor);
+            if (starts[i] >= end) {
+                starts[i] = -1;
+            }
+            if (starts[i] >= 0) {
+                cursor = starts[i] + HEADERS[i].length();
+            }
+        }
+
+        String[] values = new String[HEADERS.length];
+        for (int i = 0; i < HEADERS.length; i++) {
+            if (starts[i] < 0) {
+                continue;
+            }
+            int valueEnd = end;
+            for (int next = i + 1; next < HEADERS.length; next++) {
+                if (starts[next] >= 0) {
+                    valueEnd = starts[next];
+                    break;
+                }
+            }
+            values[i] = text.substring(starts[i] + HEADERS[i].length(), valueEnd).strip();
+        }
+        return values;
+    }
+
+    private static Post.PostIntensity parseIntensity(String value) {
+        if (value == null) {
+            return Post.PostIntensity.MODERATE;
+        }
+        int separator = value.indexOf(" - ");
+        String name = separator >= 0 ? value.substring(0, separator) : value;
+        try {
+            return Post.PostIntensity.valueOf(name.strip());
+        } catch (IllegalArgumentException e) {
+            return Post.PostIntensity.MODERATE;
+        }
+    }
+
+    /**
+     * Reads only the "Generated at" header from the start of a file
+     * @return the timestamp, or null when the header is missing or unreadable
+     */
+    public static LocalDateTime parseGeneratedAt(String head) {
+        return parseGeneratedAt(head, head.length());
+    }
+
+    private static LocalDateTime parseGeneratedAt(String text, int end) {
+        int start = text.indexOf(GENERATED_AT);
+        if (start < 0 || start >= end) {
+            return null;
+        }
+        start += GENERATED_AT.length();
+        int lineEnd = text.indexOf('\n', start);
+        try {
+            return LocalDateTime.parse(text.substring(start, lineEnd < 0 ? end : lineEnd).strip(),
+                    DateTimeFormatter.ISO_LOCAL_DATE_TIME);
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+}
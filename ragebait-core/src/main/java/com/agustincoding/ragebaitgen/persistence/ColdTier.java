@@ -0,0 +1,339 @@
+package com.agustincoding.ragebaitgen.persistence;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * Compressed tier holding the oldest history records, filled by PostHistoryStore.compact().
+ *
+ * Two files live next to history.bin:
+ *  - history.cold:     Deflate-compressed blocks of about 64 KB of records; a block holds whole
+ *                      records in the history.bin framing (i32 length + record)
+ *  - history.cold.idx: one fixed-size entry per block (logical start, file position, compressed
+ *                      length, raw length, record count), small enough to load at open
+ * Records keep the offsets they had in history.bin ("logical" offsets), so a lookup is a binary
+ * search in the index plus one block inflate; recently inflated blocks are kept in an LRU cache.
+ */
+final class ColdTier implements Closeable {
+
+    static final String DATA_FILE = "history.cold";
+    static final String INDEX_FILE = "history.cold.idx";
+
+    private static final byte[] DATA_MAGIC = {'R', 'B', 'C', 1};
+    private static final byte[] INDEX_MAGIC = {'R', 'B', 'I', 1};
+    private static final int INDEX_ENTRY_SIZE = Long.BYTES * 2 + Integer.BYTES * 3;
+    // A block is closed at the first record boundary at or past this many raw bytes
+    static final int BLOCK_SIZE = 64 * 1024;
+    static final int CACHED_BLOCKS = 32;
+
+    private record Block(long logicalStart, long position, int compressedLength, int rawLength, int recordCount) {
+        long logicalEnd() {
+            return logicalStart + rawLength;
+        }
+    }
+
+    private final FileChannel dataChannel;
+    private final FileChannel indexChannel;
+    private final long firstOffset;
+    private final List<Block> blocks;
+
+    // Inflated blocks by logical start, least recently used first
+    private final Map<Long, byte[]> cache = new LinkedHashMap<>(CACHED_BLOCKS, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Long, byte[]> eldest) {
+            return size() > CACHED_BLOCKS;
+        }
+    };
+
+    private ColdTier(FileChannel dataChannel, FileChannel indexChannel, long firstOffset, List<Block> blocks) {
+        this.dataChannel = dataChannel;
+        this.indexChannel = indexChannel;
+        this.firstOffset = firstOffset;
+        this.blocks = blocks;
+    }
+
+    /**
+     * Opens the tier for a history whose hot file starts at hotBase.
+     * Blocks written by a compaction that did not complete (they reach past hotBase) are dropped,
+     * as are torn index entries and blocks missing from the data file.
+     */
+    static ColdTier open(Path directory, long firstOffset, long hotBase) throws IOException {
+        FileChannel dataChannel = PostHistoryStore.openChannel(directory.resolve(DATA_FILE), DATA_MAGIC);
+        FileChannel indexChannel = null;
+        try {
+            indexChannel = PostHistoryStore.openChannel(directory.resolve(INDEX_FILE), INDEX_MAGIC);
+            List<Block> blocks = loadIndex(indexChannel, dataChannel.size(), firstOffset, hotBase);
+
+            long expectedBase = blocks.isEmpty() ? firstOffset : blocks.get(blocks.size() - 1).logicalEnd();
+            if (expectedBase != hotBase) {
+                throw new IOException("Compressed history does not line up with " + PostHistoryStore.HISTORY_FILE);
+            }
+
+            ColdTier tier = new ColdTier(dataChannel, indexChannel, firstOffset, blocks);
+            tier.truncateBlocks(blocks.size());
+            return tier;
+        } catch (IOException | RuntimeException e) {
+            dataChannel.close();
+            if (indexChannel != null) {
+                indexChannel.close();
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Logical offset just after the last cold record, which is where history.bin starts
+     */
+    synchronized long end() {
+        return blocks.isEmpty() ? firstOffset : blocks.get(blocks.size() - 1).logicalEnd();
+    }
+
+    synchronized int blockCount() {
+        return blocks.size();
+    }
+
+    synchronized long recordCount() {
+        long count = 0;
+        for (Block block : blocks) {
+            count += block.recordCount();
+        }
+        return count;
+    }
+
+    /**
+     * Whether the block holding the offset is in the inflated-block cache
+     */
+    synchronized boolean isCached(long offset) {
+        return cache.containsKey(findBlock(offset).logicalStart());
+    }
+
+    long sizeOnDisk() throws IOException {
+        return dataChannel.size() + indexChannel.size();
+    }
+
+    /**
+     * Compresses recordCount framed records read from in, the first one at logical offset start
+     */
+    synchronized void append(DataInputStream in, long start, long recordCount) throws IOException {
+        if (start != end()) {
+            throw new IllegalStateException("Cold records must be appended in order");
+        }
+        Deflater deflater = new Deflater(Deflater.BEST_COMPRESSION);
+        try {
+            ByteArrayOutputStream raw = new ByteArrayOutputStream(BLOCK_SIZE * 2);
+            long blockStart = start;
+            int blockRecords = 0;
+            for (long i = 0; i < recordCount; i++) {
+                int length = in.readInt();
+                PostCodec.writeInt(raw, length);
+                raw.write(in.readNBytes(length));
+                blockRecords++;
+                if (raw.size() >= BLOCK_SIZE) {
+                    writeBlock(deflater, raw, blockStart, blockRecords);
+                    blockStart += raw.size();
+                    raw.reset();
+                    blockRecords = 0;
+                }
+            }
+            if (blockRecords > 0) {
+                writeBlock(deflater, raw, blockStart, blockRecords);
+            }
+        } finally {
+            deflater.end();
+        }
+    }
+
+    synchronized void sync() throws IOException {
+        dataChannel.force(false);
+        indexChannel.force(false);
+    }
+
+    /**
+     * Drops every block after the first count, on disk and in memory
+     */
+    synchronized void truncateBlocks(int count) throws IOException {
+        while (blocks.size() > count) {
+            Block removed = blocks.remove(blocks.size() - 1);
+            cache.remove(removed.logicalStart());
+        }
+        long dataEnd = blocks.isEmpty() ? DATA_MAGIC.length
+                : blocks.get(blocks.size() - 1).position() + blocks.get(blocks.size() - 1).compressedLength();
+        long indexEnd = INDEX_MAGIC.length + (long) count * INDEX_ENTRY_SIZE;
+        dataChannel.truncate(dataEnd);
+        dataChannel.position(dataEnd);
+        indexChannel.truncate(indexEnd);
+        indexChannel.position(indexEnd);
+    }
+
+    /**
+     * Reads the record at a logical offset below end()
+     */
+    StoredPost read(long offset, StringDictionary dictionary) throws IOException {
+        Block block;
+        byte[] raw;
+        synchronized (this) {
+            block = findBlock(offset);
+            raw = cache.get(block.logicalStart());
+        }
+        if (raw == null) {
+            raw = inflate(block);
+            synchronized (this) {
+                cache.put(block.logicalStart(), raw);
+            }
+        }
+        int position = Math.toIntExact(offset - block.logicalStart());
+        int length = ByteBuffer.wrap(raw, position, Integer.BYTES).getInt();
+        return PostCodec.decode(raw, position + Integer.BYTES, length, dictionary);
+    }
+
+    /**
+     * Visits the records of the first blockLimit blocks in order. Blocks are inflated one at a
+     * time and bypass the cache, so a full scan does not evict the blocks used by lookups.
+     */
+    void scan(int blockLimit, StringDictionary dictionary, PostHistoryStore.RecordVisitor visitor)
+            throws IOException {
+        List<Block> snapshot;
+        synchronized (this) {
+            snapshot = new ArrayList<>(blocks.subList(0, blockLimit));
+        }
+        for (Block block : snapshot) {
+            byte[] raw;
+            synchronized (this) {
+                raw = cache.get(block.logicalStart());
+            }
+            if (raw == null) {
+                raw = inflate(block);
+            }
+            ByteBuffer buffer = ByteBuffer.wrap(raw);
+            while (buffer.hasRemaining()) {
+                int position = buffer.position();
+                int length = buffer.getInt();
+                visitor.visit(block.logicalStart() + position,
+                        PostCodec.decode(raw, position + Integer.BYTES, length, dictionary));
+                buffer.position(position + Integer.BYTES + length);
+            }
+        }
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        try {
+            dataChannel.close();
+        } finally {
+            indexChannel.close();
+        }
+    }
+
+    private void writeBlock(Deflater deflater, ByteArrayOutputStream raw, long logicalStart, int recordCount)
+            throws IOException {
+        byte[] input = raw.toByteArray();
+        deflater.reset();
+        deflater.setInput(input);
+        deflater.finish();
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream(input.length / 2 + 64);
+        byte[] chunk = new byte[16 * 1024];
+        while (!deflater.finished()) {
+            int produced = deflater.deflate(chunk);
+            compressed.write(chunk, 0, produced);
+        }
+
+        Block block = new Block(logicalStart, dataChannel.position(), compressed.size(), input.length, recordCount);
+        PostHistoryStore.writeFully(dataChannel, ByteBuffer.wrap(compressed.toByteArray()));
+
+        ByteBuffer entry = ByteBuffer.allocate(INDEX_ENTRY_SIZE);
+        entry.putLong(block.logicalStart())
+                .putLong(block.position())
+                .putInt(block.compressedLength())
+                .putInt(block.rawLength())
+                .putInt(block.recordCount())
+                .flip();
+        PostHistoryStore.writeFully(indexChannel, entry);
+        blocks.add(block);
+    }
+
+    private byte[] inflate(Block block) throws IOException {
+        ByteBuffer compressed = ByteBuffer.allocate(block.compressedLength());
+        PostHistoryStore.readFully(dataChannel, compressed, block.position());
+
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(compressed.array());
+            byte[] raw = new byte[block.rawLength()];
+            int inflated = 0;
+            while (inflated < raw.length && !inflater.finished()) {
+                int count = inflater.inflate(raw, inflated, raw.length - inflated);
+                if (count == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    break;
+                }
+                inflated += count;
+            }
+            if (inflated != raw.length) {
+                throw new IOException("Corrupt compressed history block at " + block.logicalStart());
+            }
+            return raw;
+        } catch (DataFormatException e) {
+            throw new IOException("Corrupt compressed history block at " + block.logicalStart(), e);
+        } finally {
+            inflater.end();
+        }
+    }
+
+    // Binary search for the block whose logical range contains the offset
+    private Block findBlock(long offset) {
+        int low = 0;
+        int high = blocks.size() - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            Block block = blocks.get(middle);
+            if (offset < block.logicalStart()) {
+                high = middle - 1;
+            } else if (offset >= block.logicalEnd()) {
+                low = middle + 1;
+            } else {
+                return block;
+            }
+        }
+        throw new IllegalArgumentException("No history record at offset " + offset);
+    }
+
+    // Keeps the longest run of complete, contiguous entries whose blocks are fully on disk and below hotBase
+    private static List<Block> loadIndex(FileChannel indexChannel, long dataSize, long firstOffset, long hotBase)
+            throws IOException {
+        long entries = (indexChannel.size() - INDEX_MAGIC.length) / INDEX_ENTRY_SIZE;
+        ByteBuffer buffer = ByteBuffer.allocate(Math.toIntExact(entries * INDEX_ENTRY_SIZE));
+        PostHistoryStore.readFully(indexChannel, buffer, INDEX_MAGIC.length);
+        buffer.flip();
+
+        List<Block> blocks = new ArrayList<>();
+        long expectedStart = firstOffset;
+        long expectedPosition = DATA_MAGIC.length;
+        while (buffer.hasRemaining()) {
+            Block block = new Block(buffer.getLong(), buffer.getLong(), buffer.getInt(), buffer.getInt(), buffer.getInt());
+            boolean valid = block.logicalStart() == expectedStart
+                    && block.position() == expectedPosition
+                    && block.compressedLength() >= 0
+                    && block.rawLength() >= 0
+                    && block.position() + block.compressedLength() <= dataSize
+                    && block.logicalEnd() <= hotBase;
+            if (!valid) {
+                break;
+            }
+            blocks.add(block);
+            expectedStart = block.logicalEnd();
+            expectedPosition = block.position() + block.compressedLength();
+        }
+        return blocks;
+    }
+}
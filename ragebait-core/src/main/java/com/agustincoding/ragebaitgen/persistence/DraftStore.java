@@ -0,0 +1,76 @@
+package com.agustincoding.ragebaitgen.persistence;
+
+import com.agustincoding.ragebaitgen.model.PostRequest;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Properties;
+
+/**
+ * Keeps the last form inputs so they survive a restart or a crash.
+ * A save writes a temporary file and renames it over the draft, so a crash mid-write
+ * leaves the previous draft intact.
+ */
+public class DraftStore {
+
+    public static final String DEFAULT_FILE = "draft.properties";
+
+    private static final String SUBREDDIT_NAME = "subredditName";
+    private static final String SUBREDDIT_DESCRIPTION = "subredditDescription";
+    private static final String LIMITATIONS = "limitations";
+    private static final String TOPIC = "topic";
+
+    private final Path file;
+
+    public DraftStore(Path file) {
+        this.file = file;
+    }
+
+    public Path getFile() {
+        return file;
+    }
+
+    /**
+     * Returns the saved draft, or null when there is none
+     */
+    public PostRequest load() throws IOException {
+        Properties properties = new Properties();
+        try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            properties.load(reader);
+        } catch (NoSuchFileException e) {
+            return null;
+        }
+        return new PostRequest(
+                properties.getProperty(SUBREDDIT_NAME),
+                properties.getProperty(SUBREDDIT_DESCRIPTION),
+                properties.getProperty(LIMITATIONS),
+                properties.getProperty(TOPIC));
+    }
+
+    public void save(PostRequest draft) throws IOException {
+        Properties properties = new Properties();
+        properties.setProperty(SUBREDDIT_NAME, draft.subredditName());
+        properties.setProperty(SUBREDDIT_DESCRIPTION, draft.subredditDescription());
+        properties.setProperty(LIMITATIONS, draft.limitations());
+        properties.setProperty(TOPIC, draft.topic());
+
+        Path parent = file.toAbsolutePath().getParent();
+        Files.createDirectories(parent);
+        Path temporary = parent.resolve(file.getFileName() + ".tmp");
+        try (Writer writer = Files.newBufferedWriter(temporary, StandardCharsets.UTF_8)) {
+            properties.store(writer, "Ragebait generator form draft");
+        }
+        try {
+            Files.move(temporary, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+}
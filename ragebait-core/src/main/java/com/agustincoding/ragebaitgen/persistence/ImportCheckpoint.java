@@ -0,0 +1,87 @@
+package com.agustincoding.ragebaitgen.persistence;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Names of the post files already copied into the history, one per line.
+ * A name is appended right after its record, so an interrupted import resumes with the next file.
+ * A torn last line (crash mid-write) is dropped when the checkpoint is opened.
+ *
+ * The checkpoint's monitor is also the lock for writing a post file and recording it: the app
+ * holds it from saving a file until the file is marked, and the importer holds it while it checks
+ * a name and appends the post, so a file saved during an import is never added twice.
+ */
+public final class ImportCheckpoint implements Closeable {
+
+    public static final String FILE_NAME = "legacy-import.done";
+
+    private final FileChannel channel;
+    private final Set<String> names;
+
+    private ImportCheckpoint(FileChannel channel, Set<String> names) {
+        this.channel = channel;
+        this.names = names;
+    }
+
+    public static ImportCheckpoint open(Path file) throws IOException {
+        FileChannel channel = FileChannel.open(file,
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            ByteBuffer buffer = ByteBuffer.allocate(Math.toIntExact(channel.size()));
+            PostHistoryStore.readFully(channel, buffer, 0);
+            byte[] bytes = buffer.array();
+
+            Set<String> names = new HashSet<>();
+            int lineStart = 0;
+            for (int i = 0; i < bytes.length; i++) {
+                if (bytes[i] == '\n') {
+                    if (i > lineStart) {
+                        names.add(new String(bytes, lineStart, i - lineStart, StandardCharsets.UTF_8));
+                    }
+                    lineStart = i + 1;
+                }
+            }
+            channel.truncate(lineStart);
+            channel.position(lineStart);
+            return new ImportCheckpoint(channel, names);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    public synchronized boolean contains(String fileName) {
+        return names.contains(fileName);
+    }
+
+    public synchronized int size() {
+        return names.size();
+    }
+
+    /**
+     * Records a file as imported; names already recorded are not written again
+     */
+    public synchronized void markImported(String fileName) throws IOException {
+        if (names.add(fileName)) {
+            PostHistoryStore.writeFully(channel,
+                    ByteBuffer.wrap((fileName + "\n").getBytes(StandardCharsets.UTF_8)));
+        }
+    }
+
+    public synchronized void sync() throws IOException {
+        channel.force(false);
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        channel.close();
+    }
+}
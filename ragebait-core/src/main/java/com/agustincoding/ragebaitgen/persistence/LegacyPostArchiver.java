@@ -0,0 +1,112 @@
+package com.agustincoding.ragebaitgen.persistence;
+
+import com.agustincoding.ragebaitgen.logging.Log;
+import com.agustincoding.ragebaitgen.logging.Logger;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Moves the post text files into the compressed history and deletes them.
+ *
+ * Only files recorded in the ImportCheckpoint are touched: their posts are already in the history,
+ * so once it has been compacted and synced the text copies are redundant. Compaction seals whole
+ * cold blocks only; the newest records, short of a block, stay uncompressed in history.bin, which
+ * is just as durable, and are compressed by a later run once enough posts have been added. Files not imported yet are kept for the next import. This is an explicit step because
+ * it removes files the user may still open by hand; the posts stay readable through the export.
+ */
+public class LegacyPostArchiver {
+
+    private static final Logger LOG = Log.getLogger(LegacyPostArchiver.class);
+
+    /**
+     * Outcome of one run; sizes are of the whole output directory, history included
+     */
+    public record Result(int archived, int kept, long bytesBefore, long bytesAfter, long latencyMillis) {
+    }
+
+    private final Path sourceDirectory;
+    private final PostHistoryStore history;
+    private final ImportCheckpoint checkpoint;
+
+    public LegacyPostArchiver(Path sourceDirectory, PostHistoryStore history, ImportCheckpoint checkpoint) {
+        this.sourceDirectory = sourceDirectory;
+        this.history = history;
+        this.checkpoint = checkpoint;
+    }
+
+    /**
+     * Compacts the history, then deletes the imported text files.
+     * Nothing is deleted unless the compaction and the syncs succeeded.
+     */
+    public Result archive() throws IOException {
+        long start = System.nanoTime();
+        long bytesBefore = directorySize(sourceDirectory);
+
+        List<Path> imported = new ArrayList<>();
+        int kept = 0;
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(sourceDirectory, PostFileStore.FILE_PATTERN)) {
+            for (Path file : files) {
+                if (!Files.isRegularFile(file)) {
+                    continue;
+                }
+                if (checkpoint.contains(file.getFileName().toString())) {
+                    imported.add(file);
+                } else {
+                    kept++;
+                }
+            }
+        }
+
+        // Durable before any text copy goes away; compact() syncs what it writes
+        history.compact(0);
+        history.sync();
+        checkpoint.sync();
+
+        int archived = 0;
+        for (Path file : imported) {
+            try {
+                Files.delete(file);
+                archived++;
+            } catch (IOException e) {
+                kept++;
+                LOG.warn("Could not delete archived post file", e)
+                        .field("phase", "archive")
+                        .field("file", file.getFileName())
+                        .log();
+            }
+        }
+
+        Result result = new Result(archived, kept, bytesBefore, directorySize(sourceDirectory),
+                (System.nanoTime() - start) / 1_000_000);
+        LOG.info("Post files archived")
+                .field("phase", "archive")
+                .field("archived", result.archived())
+                .field("kept", result.kept())
+                .field("bytesBefore", result.bytesBefore())
+                .field("bytesAfter", result.bytesAfter())
+                .field("latencyMs", result.latencyMillis())
+                .log();
+        return result;
+    }
+
+    /**
+     * Total size of the regular files under a directory
+     */
+    public static long directorySize(Path directory) throws IOException {
+        try (Stream<Path> files = Files.walk(directory)) {
+            long total = 0;
+            for (Path file : (Iterable<Path>) files::iterator) {
+                if (Files.isRegularFile(file)) {
+                    total += Files.size(file);
+                }
+            }
+            return total;
+        }
+    }
+}
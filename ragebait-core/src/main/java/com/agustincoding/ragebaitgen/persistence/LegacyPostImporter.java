@@ -0,0 +1,316 @@
+package com.agustincoding.ragebaitgen.persistence;
+
+import com.agustincoding.ragebaitgen.logging.Log;
+import com.agustincoding.ragebaitgen.logging.Logger;
+import com.agustincoding.ragebaitgen.model.Post;
+import com.agustincoding.ragebaitgen.parsing.LegacyPostParser;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Imports the post files written by PostFileStore into the binary history.
+ *
+ * The directory is listed once and the pending files are put in creation order up front, by the
+ * timestamp in their name; only renamed files have their "Generated at" header read for it.
+ * They are then imported WINDOW_FILES at a time: a window is read and parsed on a fork-join pool
+ * (files of MAP_THRESHOLD bytes or more are memory-mapped instead of copied onto the heap), then
+ * appended in order and synced. At most one window of parsed posts is held, and an interrupted
+ * import has everything up to its last window in the history.
+ * Imported names go to an ImportCheckpoint: a second run skips them, which makes the import
+ * resumable and keeps posts the app already wrote to the history from being added twice.
+ * Each append takes the checkpoint's lock and checks the name again, since the app may save and
+ * record a new file while the import is running (see ImportCheckpoint).
+ */
+public class LegacyPostImporter {
+
+    private static final Logger LOG = Log.getLogger(LegacyPostImporter.class);
+
+    private static final long MAP_THRESHOLD = 64 * 1024;
+    private static final int FILES_PER_TASK = 8;
+    // Files parsed and appended per step; bounds the parsed posts held at once
+    static final int WINDOW_FILES = 256;
+    // Enough of a file for its "Generated at" line, the third line of the header
+    private static final int HEADER_BYTES = 512;
+    // "ragebait_r_<subreddit>_<yyyy-MM-dd_HH-mm-ss>.txt"
+    private static final int FILE_TIMESTAMP_LENGTH = 19;
+
+    /**
+     * Receives progress after each file is appended, skipped or found unreadable; called on the importing thread
+     */
+    @FunctionalInterface
+    public interface ProgressListener {
+        void onProgress(int completed, int total);
+    }
+
+    /**
+     * Outcome of one run; skipped counts files already in the history, by an earlier run or by the app
+     */
+    public record Result(int total, int imported, int skipped, int failed, long latencyMillis) {
+    }
+
+    // A parsed file waiting to be appended
+    private record ParsedFile(String fileName, long createdAt, Post post) {
+    }
+
+    // A pending file and the time it is ordered by
+    private record PendingFile(Path file, long orderedAt) {
+    }
+
+    private final Path sourceDirectory;
+    private final PostHistoryStore history;
+    private final ImportCheckpoint checkpoint;
+    private final int parallelism;
+
+    public LegacyPostImporter(Path sourceDirectory, PostHistoryStore history, ImportCheckpoint checkpoint) {
+        this(sourceDirectory, history, checkpoint, Runtime.getRuntime().availableProcessors());
+    }
+
+    public LegacyPostImporter(Path sourceDirectory, PostHistoryStore history, ImportCheckpoint checkpoint,
+                              int parallelism) {
+        this.sourceDirectory = sourceDirectory;
+        this.history = history;
+        this.checkpoint = checkpoint;
+        this.parallelism = Math.max(1, parallelism);
+    }
+
+    /**
+     * Imports every file not yet in the checkpoint. Unreadable or malformed files are logged and
+     * counted as failed; a failure to write the history stops the import and is thrown, and so
+     * does an interrupt, after the window in progress has been synced.
+     */
+    public Result importAll(ProgressListener listener) throws IOException {
+        long start = System.nanoTime();
+        List<PendingFile> pending = new ArrayList<>();
+        int skipped = 0;
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(sourceDirectory, PostFileStore.FILE_PATTERN)) {
+            for (Path file : files) {
+                if (!Files.isRegularFile(file)) {
+                    continue;
+                }
+                if (checkpoint.contains(file.getFileName().toString())) {
+                    skipped++;
+                } else {
+                    pending.add(new PendingFile(file, orderedAtMillis(file)));
+                }
+            }
+        }
+        pending.sort(Comparator.comparingLong(PendingFile::orderedAt)
+                .thenComparing(p -> p.file().getFileName().toString()));
+
+        int total = pending.size() + skipped;
+        Progress progress = new Progress(pending.size(), listener);
+        int imported = 0;
+        if (!pending.isEmpty()) {
+            try (ForkJoinPool pool = new ForkJoinPool(parallelism)) {
+                for (int from = 0; from < pending.size(); from += WINDOW_FILES) {
+                    if (Thread.currentThread().isInterrupted()) {
+                        throw new InterruptedIOException("Legacy import interrupted after " + imported + " posts");
+                    }
+                    int to = Math.min(pending.size(), from + WINDOW_FILES);
+                    ParsedFile[] parsed = new ParsedFile[to - from];
+                    pool.invoke(new ParseTask(pending, parsed, from, to, from, progress));
+
+                    // Parsing ran in any order; the window is appended in the order of the list
+                    for (ParsedFile file : parsed) {
+                        if (file != null) {
+                            if (append(file)) {
+                                imported++;
+                            } else {
+                                skipped++;
+                            }
+                        }
+                        progress.fileDone();
+                    }
+                    history.sync();
+                    checkpoint.sync();
+                }
+            }
+        }
+
+        Result result = new Result(total, imported, skipped, progress.failed.get(),
+                (System.nanoTime() - start) / 1_000_000);
+        LOG.info("Legacy import finished")
+                .field("phase", "import")
+                .field("imported", result.imported())
+                .field("skipped", result.skipped())
+                .field("failed", result.failed())
+                .field("latencyMs", result.latencyMillis())
+                .log();
+        return result;
+    }
+
+    /**
+     * Reads one file; returns null after logging when it cannot be read or parsed
+     */
+    private static ParsedFile parseFile(Path file, Progress progress) {
+        String fileName = file.getFileName().toString();
+        try {
+            LegacyPostParser.Result parsed = LegacyPostParser.parse(readText(file));
+            return new ParsedFile(fileName, createdAtMillis(parsed.generatedAt(), file), parsed.post());
+        } catch (IOException | RuntimeException e) {
+            progress.failed.incrementAndGet();
+            LOG.warn("Skipping unreadable post file", e)
+                    .field("phase", "import")
+                    .field("file", fileName)
+                    .log();
+            return null;
+        }
+    }
+
+    /**
+     * Appends a parsed file unless it was recorded since the directory was listed
+     */
+    private boolean append(ParsedFile file) throws IOException {
+        synchronized (checkpoint) {
+            if (checkpoint.contains(file.fileName())) {
+                return false;
+            }
+            history.append(file.post(), file.createdAt());
+            checkpoint.markImported(file.fileName());
+            return true;
+        }
+    }
+
+    /**
+     * Small files are read onto the heap; larger ones are decoded straight from a mapping
+     */
+    private static String readText(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < MAP_THRESHOLD) {
+                ByteBuffer buffer = ByteBuffer.allocate((int) size);
+                PostHistoryStore.readFully(channel, buffer, 0);
+                return new String(buffer.array(), StandardCharsets.UTF_8);
+            }
+            MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            return StandardCharsets.UTF_8.newDecoder()
+                    .onMalformedInput(CodingErrorAction.REPLACE)
+                    .onUnmappableCharacter(CodingErrorAction.REPLACE)
+                    .decode(mapped)
+                    .toString();
+        }
+    }
+
+    /**
+     * Uses the "Generated at" header, then the timestamp in the file name, then the modification time
+     */
+    private static long createdAtMillis(LocalDateTime generatedAt, Path file) throws IOException {
+        if (generatedAt != null) {
+            return toMillis(generatedAt);
+        }
+        LocalDateTime named = fileNameTimestamp(file);
+        return named != null ? toMillis(named) : Files.getLastModifiedTime(file).toMillis();
+    }
+
+    /**
+     * Import order: the timestamp in the file name, then the "Generated at" header, then the
+     * modification time. Only the start of the file is read, and only when the name has no timestamp.
+     */
+    private static long orderedAtMillis(Path file) throws IOException {
+        LocalDateTime named = fileNameTimestamp(file);
+        if (named != null) {
+            return toMillis(named);
+        }
+        LocalDateTime generatedAt = LegacyPostParser.parseGeneratedAt(readHead(file));
+        return generatedAt != null ? toMillis(generatedAt) : Files.getLastModifiedTime(file).toMillis();
+    }
+
+    private static LocalDateTime fileNameTimestamp(Path file) {
+        String name = file.getFileName().toString();
+        int end = name.length() - ".txt".length();
+        if (end - FILE_TIMESTAMP_LENGTH > 0) {
+            try {
+                return LocalDateTime.parse(name.substring(end - FILE_TIMESTAMP_LENGTH, end), PostFileStore.FILE_TIMESTAMP);
+            } catch (DateTimeParseException e) {
+                // Renamed file
+            }
+        }
+        return null;
+    }
+
+    private static String readHead(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            ByteBuffer buffer = ByteBuffer.allocate((int) Math.min(HEADER_BYTES, channel.size()));
+            PostHistoryStore.readFully(channel, buffer, 0);
+            // A character cut at the end decodes to a replacement, which the header line never reaches
+            return new String(buffer.array(), StandardCharsets.UTF_8);
+        }
+    }
+
+    private static long toMillis(LocalDateTime time) {
+        return time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    // Counters of one run
+    private static final class Progress {
+        private final int total;
+        private final ProgressListener listener;
+        private int completed;
+        // Counted by the parse tasks
+        private final AtomicInteger failed = new AtomicInteger();
+
+        private Progress(int total, ProgressListener listener) {
+            this.total = total;
+            this.listener = listener;
+        }
+
+        private void fileDone() {
+            completed++;
+            if (listener != null) {
+                listener.onProgress(completed, total);
+            }
+        }
+    }
+
+    // Splits a window of the file list in halves until a slice is small enough to parse directly;
+    // parsed[i - base] receives files[i]
+    private static final class ParseTask extends RecursiveAction {
+        private final List<PendingFile> files;
+        private final ParsedFile[] parsed;
+        private final int from;
+        private final int to;
+        private final int base;
+        private final Progress progress;
+
+        private ParseTask(List<PendingFile> files, ParsedFile[] parsed, int from, int to, int base, Progress progress) {
+            this.files = files;
+            this.parsed = parsed;
+            this.from = from;
+            this.to = to;
+            this.base = base;
+            this.progress = progress;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= FILES_PER_TASK) {
+                for (int i = from; i < to; i++) {
+                    parsed[i - base] = parseFile(files.get(i).file(), progress);
+                }
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new ParseTask(files, parsed, from, middle, base, progress),
+                    new ParseTask(files, parsed, middle, to, base, progress));
+        }
+    }
+}
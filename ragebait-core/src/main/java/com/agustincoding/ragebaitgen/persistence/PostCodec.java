@@ -0,0 +1,89 @@
+package com.agustincoding.ragebaitgen.persistence;
+
+import com.agustincoding.ragebaitgen.model.Post;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Compact binary encoding of a Post.
+ *
+ * Schema v1 layout:
+ *   u8      schema version (1)
+ *   i64     created-at, epoch millis, big-endian
+ *   u8      intensity ordinal
+ *   varint  subreddit id             (dictionary, 0 = null)
+ *   varint  subreddit description id (dictionary, 0 = null)
+ *   varint  limitations id           (dictionary, 0 = null)
+ *   varint  topic id                 (dictionary, 0 = null)
+ *   string  title
+ *   string  content
+ *   string  generation prompt
+ * where string = varint (UTF-8 byte length + 1, 0 = null) followed by the bytes.
+ *
+ * New schemas get a new version byte; StoredPost keeps decoding the older ones.
+ */
+public final class PostCodec {
+
+    public static final int SCHEMA_V1 = 1;
+    public static final int CURRENT_SCHEMA = SCHEMA_V1;
+
+    private PostCodec() {
+        // Utility class
+    }
+
+    public static byte[] encode(Post post, long createdAtMillis, StringDictionary dictionary) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(256 + post.getContentLength());
+        out.write(CURRENT_SCHEMA);
+        writeLong(out, createdAtMillis);
+        // Ordinals are persisted: new intensities must be added at the end of the enum
+        out.write(post.getIntensity().ordinal());
+        writeVarInt(out, dictionary.idOf(post.getSubreddit()));
+        writeVarInt(out, dictionary.idOf(post.getSubredditDescription()));
+        writeVarInt(out, dictionary.idOf(post.getLimitations()));
+        writeVarInt(out, dictionary.idOf(post.getTopic()));
+        writeString(out, post.getTitle());
+        writeString(out, post.getContent());
+        writeString(out, post.getGenerationPrompt());
+        return out.toByteArray();
+    }
+
+    /**
+     * Wraps an encoded record; only the header is parsed, strings are decoded on access
+     */
+    public static StoredPost decode(byte[] data, int offset, int length, StringDictionary dictionary)
+            throws IOException {
+        return new StoredPost(data, offset, length, dictionary);
+    }
+
+    static void writeLong(ByteArrayOutputStream out, long value) {
+        for (int shift = 56; shift >= 0; shift -= 8) {
+            out.write((int) (value >>> shift));
+        }
+    }
+
+    static void writeInt(ByteArrayOutputStream out, int value) {
+        for (int shift = 24; shift >= 0; shift -= 8) {
+            out.write(value >>> shift);
+        }
+    }
+
+    static void writeVarInt(ByteArrayOutputStream out, int value) {
+        while ((value & ~0x7F) != 0) {
+            out.write((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.write(value);
+    }
+
+    static void writeString(ByteArrayOutputStream out, String value) {
+        if (value == null) {
+            writeVarInt(out, 0);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeVarInt(out, bytes.length + 1);
+        out.write(bytes, 0, bytes.length);
+    }
+}
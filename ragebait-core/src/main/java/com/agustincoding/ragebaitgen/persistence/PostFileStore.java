@@ -0,0 +1,136 @@
+package com.agustincoding.ragebaitgen.persistence;
+
+import com.agustincoding.ragebaitgen.model.Post;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Writes generated posts as text files, one file per post, in the output directory
+ */
+public class PostFileStore {
+
+    // File management constants
+    public static final String DEFAULT_DIRECTORY = "generated_posts";
+    public static final String FILE_PATTERN = "ragebait_r_*_*.txt";
+    static final DateTimeFormatter FILE_TIMESTAMP = DateTimeFormatter.ofPattern("yyyy-MM-dd_HH-mm-ss");
+
+    private final Path directory;
+
+    public PostFileStore() {
+        this(Path.of(DEFAULT_DIRECTORY));
+    }
+
+    public PostFileStore(Path directory) {
+        this.directory = directory;
+    }
+
+    public Path getDirectory() {
+        return directory;
+    }
+
+    /**
+     * Ensure the output directory exists
+     */
+    public void createDirectory() throws IOException {
+        if (!Files.exists(directory)) {
+            Files.createDirectories(directory);
+        }
+    }
+
+    /**
+     * Saves the post to a file with enhanced formatting - JDK 21 improvements
+     */
+    public String save(Post post) throws IOException {
+        String timestamp = LocalDateTime.now().format(FILE_TIMESTAMP);
+        String filename = "ragebait_r_%s_%s.txt".formatted(post.getSubreddit(), timestamp);
+
+        Path outputPath = directory.resolve(filename);
+        String fileContent = formatPostForFile(post);
+
+        Files.writeString(outputPath, fileContent, StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING);
+
+        return filename;
+    }
+
+    /**
+     * Enhanced file formatting with JDK 21 text blocks and string formatting
+     */
+    public static String formatPostForFile(Post post) {
+        String header = """
+            ================================================================================
+            REDDIT RAGEBAIT POST GENERATED
+            Generated at: %s
+            ================================================================================
+            """.formatted(LocalDateTime.now().format(DateTimeFormatter.ISO_LOCAL_DATE_TIME));
+
+        StringBuilder content = new StringBuilder(header);
+
+        // Post Information
+        content.append("\nSUBREDDIT: r/").append(post.getSubreddit()).append("\n");
+        content.append("SUBREDDIT DESCRIPTION: ").append(post.getSubredditDescription()).append("\n");
+
+        if (post.hasLimitations()) {
+            content.append("SUBREDDIT LIMITATIONS: ").append(post.getLimitations()).append("\n");
+        }
+
+        if (post.hasTopicSpecified()) {
+            content.append("TOPIC FOCUS: ").append(post.getTopic()).append("\n");
+        }
+
+        content.append("INTENSITY LEVEL: ").append(post.getIntensity().name())
+                .append(" - ").append(post.getIntensity().getDescription()).append("\n\n");
+
+        // Post Content with enhanced formatting
+        String postContent = """
+            TITLE:
+            --------------------------------------------------
+            %s
+            --------------------------------------------------
+            
+            CONTENT:
+            --------------------------------------------------
+            %s
+            --------------------------------------------------
+            """.formatted(post.getTitle(), post.getContent());
+
+        content.append(postContent);
+
+        // Metadata section
+        String metadata = """
+            
+            METADATA:
+            ==============================
+            Title Length: %d characters
+            Content Length: %d characters
+            Word Count: %d words
+            Valid for Submission: %s
+            """.formatted(
+                post.getTitle() != null ? post.getTitle().length() : 0,
+                post.getContentLength(),
+                post.getWordCount(),
+                post.isValidForSubmission() ? "YES" : "NO"
+        );
+
+        content.append(metadata);
+
+        // Footer
+        String footer = """
+            
+            
+            ================================================================================
+            END OF GENERATED POST
+            ================================================================================
+            """;
+
+        content.append(footer);
+
+        return content.toString();
+    }
+}
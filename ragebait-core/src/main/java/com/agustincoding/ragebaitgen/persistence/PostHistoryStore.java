@@ -0,0 +1,502 @@
+package com.agustincoding.ragebaitgen.persistence;
+
+import com.agustincoding.ragebaitgen.logging.Log;
+import com.agustincoding.ragebaitgen.logging.Logger;
+import com.agustincoding.ragebaitgen.model.Post;
+
+import java.io.BufferedInputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Append-only binary history of generated posts.
+ *
+ * Files in the history directory:
+ *  - history.dict: the shared StringDictionary, one length-prefixed UTF-8 entry per id
+ *  - history.bin:  the newest ("hot") records encoded with PostCodec, each prefixed by its length (i32)
+ *  - history.cold, history.cold.idx: older records moved to the compressed ColdTier by compact()
+ * Records are addressed by their logical offset, the position they got when appended; it stays
+ * valid when a record moves to the cold tier. history.bin v2 stores the logical offset of its first
+ * record in the header (v1 files start at offset 4 and are still read).
+ * Dictionary entries are always written before the records that use them. A torn write at the
+ * end of any file (crash while appending or compacting) is truncated away when the store is opened;
+ * a failed append is undone right away, or the store stops accepting writes if it cannot be.
+ */
+public class PostHistoryStore implements Closeable {
+
+    private static final Logger LOG = Log.getLogger(PostHistoryStore.class);
+
+    public static final String HISTORY_FILE = "history.bin";
+    public static final String DICTIONARY_FILE = "history.dict";
+
+    private static final byte[] HISTORY_MAGIC_V1 = {'R', 'B', 'H', 1};
+    private static final byte[] HISTORY_MAGIC_V2 = {'R', 'B', 'H', 2};
+    private static final byte[] DICTIONARY_MAGIC = {'R', 'B', 'D', 1};
+    private static final int V2_HEADER_LENGTH = HISTORY_MAGIC_V2.length + Long.BYTES;
+    // Logical offset of the very first record, kept equal to the v1 layout
+    private static final long FIRST_OFFSET = HISTORY_MAGIC_V1.length;
+    private static final int READ_BUFFER_SIZE = 64 * 1024;
+
+    /**
+     * Receives the records of a scan together with their logical offset
+     */
+    @FunctionalInterface
+    public interface RecordVisitor {
+        void visit(long offset, StoredPost post) throws IOException;
+    }
+
+    private final Path directory;
+    private final Path historyFile;
+    private final StringDictionary dictionary;
+    private final FileChannel dictionaryChannel;
+    private final ColdTier coldTier;
+    private long recordCount;
+
+    // Set when a failed write could not be undone; every later write is refused with it
+    private IOException failure;
+
+    // Replaced by compact(): the hot file, its header length and the logical offset of its first record
+    private FileChannel historyChannel;
+    private int hotHeaderLength;
+    private long hotBase;
+
+    private PostHistoryStore(Path directory, StringDictionary dictionary, FileChannel dictionaryChannel,
+                             FileChannel historyChannel, int hotHeaderLength, long hotBase,
+                             ColdTier coldTier, long recordCount) {
+        this.directory = directory;
+        this.historyFile = directory.resolve(HISTORY_FILE);
+        this.dictionary = dictionary;
+        this.dictionaryChannel = dictionaryChannel;
+        this.historyChannel = historyChannel;
+        this.hotHeaderLength = hotHeaderLength;
+        this.hotBase = hotBase;
+        this.coldTier = coldTier;
+        this.recordCount = recordCount;
+    }
+
+    /**
+     * Opens the store in the given directory, creating it if needed
+     */
+    public static PostHistoryStore open(Path directory) throws IOException {
+        Files.createDirectories(directory);
+        // Left behind by a compaction that stopped before replacing history.bin
+        Files.deleteIfExists(directory.resolve(HISTORY_FILE + ".tmp"));
+        StringDictionary dictionary = new StringDictionary();
+
+        FileChannel dictionaryChannel = openChannel(directory.resolve(DICTIONARY_FILE), DICTIONARY_MAGIC);
+        FileChannel historyChannel = null;
+        ColdTier coldTier = null;
+        try {
+            dictionaryChannel.truncate(loadDictionary(dictionaryChannel, dictionary));
+            dictionaryChannel.position(dictionaryChannel.size());
+
+            historyChannel = FileChannel.open(directory.resolve(HISTORY_FILE),
+                    StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            if (historyChannel.size() == 0) {
+                writeFully(historyChannel, hotHeader(FIRST_OFFSET));
+            }
+            int headerLength = readHotHeaderLength(historyChannel, directory);
+            long base = readHotBase(historyChannel, headerLength);
+
+            long[] scan = scanValidRecords(historyChannel, headerLength);
+            historyChannel.truncate(scan[0]);
+            historyChannel.position(historyChannel.size());
+
+            coldTier = ColdTier.open(directory, FIRST_OFFSET, base);
+            return new PostHistoryStore(directory, dictionary, dictionaryChannel, historyChannel,
+                    headerLength, base, coldTier, coldTier.recordCount() + scan[1]);
+        } catch (IOException | RuntimeException e) {
+            dictionaryChannel.close();
+            if (historyChannel != null) {
+                historyChannel.close();
+            }
+            if (coldTier != null) {
+                coldTier.close();
+            }
+            throw e;
+        }
+    }
+
+    public Path getDirectory() {
+        return directory;
+    }
+
+    public StringDictionary getDictionary() {
+        return dictionary;
+    }
+
+    public synchronized long count() {
+        return recordCount;
+    }
+
+    /**
+     * Bytes used on disk by the records, compressed or not, and the dictionary
+     */
+    public synchronized long sizeOnDisk() throws IOException {
+        return historyChannel.size() + dictionaryChannel.size() + coldTier.sizeOnDisk();
+    }
+
+    /**
+     * Bytes of uncompressed records in history.bin
+     */
+    public synchronized long hotSizeOnDisk() throws IOException {
+        return historyChannel.size() - hotHeaderLength;
+    }
+
+    public long append(Post post, Instant createdAt) throws IOException {
+        return append(post, createdAt.toEpochMilli());
+    }
+
+    /**
+     * Appends a post and returns the logical offset of its record
+     */
+    public synchronized long append(Post post, long createdAtMillis) throws IOException {
+        checkWritable();
+        int dictionarySize = dictionary.size();
+        long dictionaryEnd = dictionaryChannel.position();
+        long historyEnd = historyChannel.position();
+        try {
+            byte[] record = PostCodec.encode(post, createdAtMillis, dictionary);
+            writeDictionaryEntries(dictionary.drainPending());
+
+            ByteBuffer buffer = ByteBuffer.allocate(Integer.BYTES + record.length);
+            buffer.putInt(record.length).put(record).flip();
+            writeFully(historyChannel, buffer);
+        } catch (IOException | RuntimeException e) {
+            rollBack(dictionarySize, dictionaryEnd, historyEnd, e);
+            throw e;
+        }
+        recordCount++;
+        return toLogical(historyEnd);
+    }
+
+    /**
+     * Forces appended data to the storage device
+     */
+    public synchronized void sync() throws IOException {
+        dictionaryChannel.force(false);
+        historyChannel.force(false);
+    }
+
+    /**
+     * Reads a single record at the offset returned by append(), from whichever tier holds it
+     */
+    public StoredPost read(long offset) throws IOException {
+        FileChannel channel;
+        long position;
+        synchronized (this) {
+            if (offset < hotBase) {
+                channel = null;
+                position = -1;
+            } else {
+                // Opened under the lock so a concurrent compact() cannot swap the file in between
+                channel = FileChannel.open(historyFile, StandardOpenOption.READ);
+                position = hotHeaderLength + (offset - hotBase);
+            }
+        }
+        if (channel == null) {
+            return coldTier.read(offset, dictionary);
+        }
+        try (channel) {
+            ByteBuffer lengthBuffer = ByteBuffer.allocate(Integer.BYTES);
+            readFully(channel, lengthBuffer, position);
+            int length = lengthBuffer.flip().getInt();
+            ByteBuffer recordBuffer = ByteBuffer.allocate(length);
+            readFully(channel, recordBuffer, position + Integer.BYTES);
+            return PostCodec.decode(recordBuffer.array(), 0, length, dictionary);
+        }
+    }
+
+    /**
+     * Streams every record appended so far, oldest first; memory use does not depend on the history size
+     */
+    public void scan(RecordVisitor visitor) throws IOException {
+        FileChannel channel;
+        int coldBlocks;
+        long start;
+        long limit;
+        long base;
+        synchronized (this) {
+            channel = FileChannel.open(historyFile, StandardOpenOption.READ);
+            coldBlocks = coldTier.blockCount();
+            start = hotHeaderLength;
+            limit = historyChannel.position();
+            base = hotBase;
+        }
+        try (channel;
+             DataInputStream in = new DataInputStream(new BufferedInputStream(
+                     Channels.newInputStream(channel.position(start)), READ_BUFFER_SIZE))) {
+            coldTier.scan(coldBlocks, dictionary, visitor);
+
+            long position = start;
+            while (position < limit) {
+                int length = in.readInt();
+                byte[] record = new byte[length];
+                in.readFully(record);
+                visitor.visit(base + (position - start), PostCodec.decode(record, 0, length, dictionary));
+                position += Integer.BYTES + length;
+            }
+        }
+    }
+
+    /**
+     * Loads every record as a lightweight StoredPost view
+     */
+    public List<StoredPost> loadAll() throws IOException {
+        List<StoredPost> posts = new ArrayList<>();
+        scan((offset, post) -> posts.add(post));
+        return posts;
+    }
+
+    /**
+     * Moves the oldest records to the compressed cold tier, keeping at least keepHotBytes of the
+     * newest records in history.bin. Only whole cold blocks are moved: records short of a full
+     * block stay hot until later appends fill it, so repeated compactions do not leave a trail of
+     * small, poorly compressed blocks. Offsets and reads are unaffected.
+     * @return the number of records moved
+     */
+    public synchronized long compact(long keepHotBytes) throws IOException {
+        checkWritable();
+        long start = System.nanoTime();
+        long end = historyChannel.position();
+
+        // Last block boundary that still leaves keepHotBytes behind it, found with the rule
+        // ColdTier.append() uses to close blocks
+        long split = hotHeaderLength;
+        long moved = 0;
+        long recordStart = hotHeaderLength;
+        long records = 0;
+        long blockBytes = 0;
+        ByteBuffer lengthBuffer = ByteBuffer.allocate(Integer.BYTES);
+        while (recordStart < end) {
+            lengthBuffer.clear();
+            readFully(historyChannel, lengthBuffer, recordStart);
+            long next = recordStart + Integer.BYTES + lengthBuffer.flip().getInt();
+            if (end - next < keepHotBytes) {
+                break;
+            }
+            blockBytes += next - recordStart;
+            recordStart = next;
+            records++;
+            if (blockBytes >= ColdTier.BLOCK_SIZE) {
+                split = recordStart;
+                moved = records;
+                blockBytes = 0;
+            }
+        }
+        if (moved == 0) {
+            return 0;
+        }
+
+        long sizeBefore = sizeOnDisk();
+        long newBase = toLogical(split);
+        int blocksBefore = coldTier.blockCount();
+        Path temporary = directory.resolve(HISTORY_FILE + ".tmp");
+
+        // Cold blocks are made durable before history.bin is replaced; until the rename the old
+        // file still holds every record, and open() drops cold blocks that overlap it
+        sync();
+        try {
+            try (FileChannel source = FileChannel.open(historyFile, StandardOpenOption.READ);
+                 DataInputStream in = new DataInputStream(new BufferedInputStream(
+                         Channels.newInputStream(source.position(hotHeaderLength)), READ_BUFFER_SIZE))) {
+                coldTier.append(in, hotBase, moved);
+            }
+            coldTier.sync();
+
+            try (FileChannel target = FileChannel.open(temporary, StandardOpenOption.CREATE,
+                    StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                writeFully(target, hotHeader(newBase));
+                long position = split;
+                while (position < end) {
+                    position += historyChannel.transferTo(position, end - position, target);
+                }
+                target.force(true);
+            }
+            Files.move(temporary, historyFile, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(temporary);
+            coldTier.truncateBlocks(blocksBefore);
+            throw e;
+        }
+
+        historyChannel.close();
+        historyChannel = FileChannel.open(historyFile, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        historyChannel.position(historyChannel.size());
+        hotHeaderLength = V2_HEADER_LENGTH;
+        hotBase = newBase;
+
+        LOG.info("History compacted")
+                .field("phase", "compact")
+                .field("records", moved)
+                .field("bytesBefore", sizeBefore)
+                .field("bytesAfter", sizeOnDisk())
+                .field("latencyMs", (System.nanoTime() - start) / 1_000_000)
+                .log();
+        return moved;
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        try {
+            dictionaryChannel.close();
+            coldTier.close();
+        } finally {
+            historyChannel.close();
+        }
+    }
+
+    /**
+     * Undoes a failed append: the ids it assigned are forgotten and both files are cut back to where
+     * they were, so the next append reuses the same ids. Dictionary ids are positional, so if the files
+     * cannot be cut back, writing on would shift every later id on the next open; the store stops instead.
+     */
+    private void rollBack(int dictionarySize, long dictionaryEnd, long historyEnd, Exception cause) {
+        dictionary.truncate(dictionarySize);
+        try {
+            dictionaryChannel.truncate(dictionaryEnd);
+            dictionaryChannel.position(dictionaryEnd);
+            historyChannel.truncate(historyEnd);
+            historyChannel.position(historyEnd);
+        } catch (IOException | RuntimeException e) {
+            cause.addSuppressed(e);
+            failure = new IOException("Post history is read-only after a write that could not be undone", cause);
+            LOG.error("Could not undo a failed history append", e)
+                    .field("phase", "persist")
+                    .field("directory", directory)
+                    .log();
+        }
+    }
+
+    private void checkWritable() throws IOException {
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    private long toLogical(long position) {
+        return hotBase + (position - hotHeaderLength);
+    }
+
+    private void writeDictionaryEntries(List<String> entries) throws IOException {
+        for (String entry : entries) {
+            byte[] bytes = entry.getBytes(StandardCharsets.UTF_8);
+            ByteBuffer buffer = ByteBuffer.allocate(Integer.BYTES + bytes.length);
+            buffer.putInt(bytes.length).put(bytes).flip();
+            writeFully(dictionaryChannel, buffer);
+        }
+    }
+
+    private static ByteBuffer hotHeader(long base) {
+        return ByteBuffer.allocate(V2_HEADER_LENGTH).put(HISTORY_MAGIC_V2).putLong(base).flip();
+    }
+
+    private static int readHotHeaderLength(FileChannel channel, Path directory) throws IOException {
+        ByteBuffer magic = ByteBuffer.allocate(HISTORY_MAGIC_V1.length);
+        readFully(channel, magic, 0);
+        magic.flip();
+        if (ByteBuffer.wrap(HISTORY_MAGIC_V1).equals(magic)) {
+            return HISTORY_MAGIC_V1.length;
+        }
+        if (ByteBuffer.wrap(HISTORY_MAGIC_V2).equals(magic)) {
+            return V2_HEADER_LENGTH;
+        }
+        throw new IOException("Not a post history file or unsupported version: " + directory.resolve(HISTORY_FILE));
+    }
+
+    private static long readHotBase(FileChannel channel, int headerLength) throws IOException {
+        if (headerLength == HISTORY_MAGIC_V1.length) {
+            return FIRST_OFFSET;
+        }
+        ByteBuffer base = ByteBuffer.allocate(Long.BYTES);
+        readFully(channel, base, HISTORY_MAGIC_V2.length);
+        return base.flip().getLong();
+    }
+
+    static FileChannel openChannel(Path file, byte[] magic) throws IOException {
+        FileChannel channel = FileChannel.open(file,
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        if (channel.size() == 0) {
+            writeFully(channel, ByteBuffer.wrap(magic));
+            return channel;
+        }
+        ByteBuffer header = ByteBuffer.allocate(magic.length);
+        readFully(channel, header, 0);
+        if (!ByteBuffer.wrap(magic).equals(header.flip())) {
+            channel.close();
+            throw new IOException("Not a post history file or unsupported version: " + file);
+        }
+        return channel;
+    }
+
+    // Returns the offset just after the last complete entry
+    private static long loadDictionary(FileChannel channel, StringDictionary dictionary) throws IOException {
+        long valid = DICTIONARY_MAGIC.length;
+        DataInputStream in = new DataInputStream(new BufferedInputStream(
+                Channels.newInputStream(channel.position(valid)), READ_BUFFER_SIZE));
+        long size = channel.size();
+        while (valid < size) {
+            try {
+                int length = in.readInt();
+                if (length < 0 || valid + Integer.BYTES + length > size) {
+                    break;
+                }
+                byte[] bytes = new byte[length];
+                in.readFully(bytes);
+                dictionary.load(new String(bytes, StandardCharsets.UTF_8));
+                valid += Integer.BYTES + length;
+            } catch (EOFException e) {
+                break;
+            }
+        }
+        return valid;
+    }
+
+    // Returns {position after the last complete record, number of complete records}
+    private static long[] scanValidRecords(FileChannel channel, int headerLength) throws IOException {
+        long size = channel.size();
+        long offset = headerLength;
+        long count = 0;
+        ByteBuffer lengthBuffer = ByteBuffer.allocate(Integer.BYTES);
+        while (offset + Integer.BYTES <= size) {
+            lengthBuffer.clear();
+            readFully(channel, lengthBuffer, offset);
+            int length = lengthBuffer.flip().getInt();
+            if (length < 0 || offset + Integer.BYTES + length > size) {
+                break;
+            }
+            offset += Integer.BYTES + length;
+            count++;
+        }
+        return new long[]{offset, count};
+    }
+
+    static void writeFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    static void readFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            int read = channel.read(buffer, position);
+            if (read < 0) {
+                throw new EOFException("Unexpected end of history file");
+            }
+            position += read;
+        }
+    }
+}
@@ -0,0 +1,186 @@
+package com.agustincoding.ragebaitgen.persistence;
+
+import com.agustincoding.ragebaitgen.model.Post;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+
+/**
+ * Read-only view over one encoded history record.
+ * Construction only walks the header and remembers where each string starts; title, content and
+ * prompt are decoded when their getter is called, and metadata comes from the shared dictionary.
+ */
+public final class StoredPost {
+
+    private static final Post.PostIntensity[] INTENSITIES = Post.PostIntensity.values();
+
+    private final byte[] data;
+    private final StringDictionary dictionary;
+
+    private final int schemaVersion;
+    private final long createdAtMillis;
+    private final Post.PostIntensity intensity;
+    private final int subredditId;
+    private final int subredditDescriptionId;
+    private final int limitationsId;
+    private final int topicId;
+
+    // Offset and UTF-8 length of each inline string, length -1 when the value is null
+    private final int titleOffset;
+    private final int titleLength;
+    private final int contentOffset;
+    private final int contentLength;
+    private final int promptOffset;
+    private final int promptLength;
+
+    StoredPost(byte[] data, int offset, int length, StringDictionary dictionary) throws IOException {
+        this.data = data;
+        this.dictionary = dictionary;
+        Reader reader = new Reader(data, offset, offset + length);
+
+        schemaVersion = reader.readByte();
+        if (schemaVersion != PostCodec.SCHEMA_V1) {
+            throw new IOException("Unsupported post schema version: " + schemaVersion);
+        }
+        createdAtMillis = reader.readLong();
+        int ordinal = reader.readByte();
+        if (ordinal >= INTENSITIES.length) {
+            throw new IOException("Unknown intensity ordinal: " + ordinal);
+        }
+        intensity = INTENSITIES[ordinal];
+        subredditId = reader.readVarInt();
+        subredditDescriptionId = reader.readVarInt();
+        limitationsId = reader.readVarInt();
+        topicId = reader.readVarInt();
+
+        titleLength = reader.readVarInt() - 1;
+        titleOffset = reader.position;
+        reader.skip(titleLength);
+        contentLength = reader.readVarInt() - 1;
+        contentOffset = reader.position;
+        reader.skip(contentLength);
+        promptLength = reader.readVarInt() - 1;
+        promptOffset = reader.position;
+        reader.skip(promptLength);
+    }
+
+    public int getSchemaVersion() {
+        return schemaVersion;
+    }
+
+    public Instant getCreatedAt() {
+        return Instant.ofEpochMilli(createdAtMillis);
+    }
+
+    public long getCreatedAtMillis() {
+        return createdAtMillis;
+    }
+
+    public Post.PostIntensity getIntensity() {
+        return intensity;
+    }
+
+    public String getSubreddit() {
+        return dictionary.valueOf(subredditId);
+    }
+
+    public String getSubredditDescription() {
+        return dictionary.valueOf(subredditDescriptionId);
+    }
+
+    public String getLimitations() {
+        return dictionary.valueOf(limitationsId);
+    }
+
+    public String getTopic() {
+        return dictionary.valueOf(topicId);
+    }
+
+    public String getTitle() {
+        return decode(titleOffset, titleLength);
+    }
+
+    public String getContent() {
+        return decode(contentOffset, contentLength);
+    }
+
+    public String getGenerationPrompt() {
+        return decode(promptOffset, promptLength);
+    }
+
+    /**
+     * Encoded size of the content, without decoding it
+     */
+    public int getContentBytes() {
+        return Math.max(contentLength, 0);
+    }
+
+    /**
+     * Materializes a full Post; metadata strings are the shared dictionary instances
+     */
+    public Post toPost() {
+        Post post = new Post(getTitle(), getContent(), getSubreddit());
+        post.setSubredditDescription(getSubredditDescription());
+        post.setLimitations(getLimitations());
+        post.setTopic(getTopic());
+        post.setIntensity(intensity);
+        post.setGenerationPrompt(getGenerationPrompt());
+        post.setCreatedAt(getCreatedAt());
+        return post;
+    }
+
+    private String decode(int offset, int length) {
+        return length < 0 ? null : new String(data, offset, length, StandardCharsets.UTF_8);
+    }
+
+    // Cursor over the record bytes, bounds-checked against the record end
+    private static final class Reader {
+        private final byte[] data;
+        private final int end;
+        private int position;
+
+        private Reader(byte[] data, int start, int end) {
+            this.data = data;
+            this.position = start;
+            this.end = end;
+        }
+
+        private int readByte() throws IOException {
+            if (position >= end) {
+                throw new IOException("Truncated post record");
+            }
+            return data[position++] & 0xFF;
+        }
+
+        private long readLong() throws IOException {
+            long value = 0;
+            for (int i = 0; i < 8; i++) {
+                value = (value << 8) | readByte();
+            }
+            return value;
+        }
+
+        private int readVarInt() throws IOException {
+            int value = 0;
+            for (int shift = 0; shift < 32; shift += 7) {
+                int b = readByte();
+                value |= (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    return value;
+                }
+            }
+            throw new IOException("Malformed varint in post record");
+        }
+
+        private void skip(int length) throws IOException {
+            if (length <= 0) {
+                return;
+            }
+            if (length > end - position) {
+                throw new IOException("Truncated post record");
+            }
+            position += length;
+        }
+    }
+}
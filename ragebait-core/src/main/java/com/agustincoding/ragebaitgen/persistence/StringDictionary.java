@@ -0,0 +1,91 @@
+package com.agustincoding.ragebaitgen.persistence;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Shared dictionary for repeated metadata strings (subreddit, description, limitations, topic).
+ * Records store a small id instead of the text; every decoded post gets the same String instance,
+ * so a long subreddit description is kept once on disk and once in memory.
+ * Id 0 means null; real entries start at 1. Entries are never removed, so ids stay stable.
+ */
+public final class StringDictionary {
+
+    public static final int NULL_ID = 0;
+
+    private final List<String> entries = new ArrayList<>();
+    private final Map<String, Integer> ids = new HashMap<>();
+
+    // Entries added since the last call to drainPending(), in id order
+    private final List<String> pending = new ArrayList<>();
+
+    /**
+     * Returns the id of the value, adding it if it is new
+     */
+    public synchronized int idOf(String value) {
+        if (value == null) {
+            return NULL_ID;
+        }
+        Integer id = ids.get(value);
+        if (id != null) {
+            return id;
+        }
+        entries.add(value);
+        int newId = entries.size();
+        ids.put(value, newId);
+        pending.add(value);
+        return newId;
+    }
+
+    /**
+     * Returns the shared instance for an id
+     */
+    public synchronized String valueOf(int id) {
+        if (id == NULL_ID) {
+            return null;
+        }
+        if (id < 0 || id > entries.size()) {
+            throw new IllegalArgumentException("Unknown dictionary id: " + id);
+        }
+        return entries.get(id - 1);
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    /**
+     * Adds an entry read back from disk; it is not reported as pending
+     */
+    synchronized void load(String value) {
+        entries.add(value);
+        ids.put(value, entries.size());
+    }
+
+    /**
+     * Forgets every entry after the first size, e.g. the ones added by an append that failed.
+     * Only the owning store may call this, while it holds its own lock, so no id handed out
+     * to someone else is taken back.
+     */
+    synchronized void truncate(int size) {
+        while (entries.size() > size) {
+            String removed = entries.remove(entries.size() - 1);
+            ids.remove(removed);
+            pending.remove(removed);
+        }
+    }
+
+    /**
+     * Returns and forgets the entries that still have to be written
+     */
+    synchronized List<String> drainPending() {
+        if (pending.isEmpty()) {
+            return List.of();
+        }
+        List<String> drained = new ArrayList<>(pending);
+        pending.clear();
+        return drained;
+    }
+}
@@ -0,0 +1,52 @@
+package com.agustincoding.ragebaitgen;
+
+import com.agustincoding.ragebaitgen.model.PostRequest;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+/**
+ * The core module must load without AWT: no compiled core class may refer to java.awt or javax.swing
+ */
+class CoreHeadlessTest {
+
+    @Test
+    void coreClassesDoNotReferenceAwtOrSwing() throws IOException, URISyntaxException {
+        Path classes = Path.of(PostRequest.class.getProtectionDomain().getCodeSource().getLocation().toURI());
+        List<Path> classFiles;
+        try (Stream<Path> files = Files.walk(classes)) {
+            classFiles = files.filter(file -> file.toString().endsWith(".class")).toList();
+        }
+        assertFalse(classFiles.isEmpty(), "No core classes found in " + classes);
+
+        List<String> offenders = classFiles.stream()
+                .filter(CoreHeadlessTest::referencesUiToolkit)
+                .map(file -> classes.relativize(file).toString())
+                .toList();
+        assertEquals(List.of(), offenders);
+    }
+
+    @Test
+    void testsRunHeadless() {
+        assertEquals("true", System.getProperty("java.awt.headless"));
+    }
+
+    // Class references are stored as internal names in the constant pool, e.g. "java/awt/Color"
+    private static boolean referencesUiToolkit(Path classFile) {
+        try {
+            String constants = new String(Files.readAllBytes(classFile), StandardCharsets.ISO_8859_1);
+            return constants.contains("java/awt/") || constants.contains("javax/swing/");
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
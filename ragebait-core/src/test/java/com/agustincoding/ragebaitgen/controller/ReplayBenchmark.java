@@ -0,0 +1,93 @@
+package com.agustincoding.ragebaitgen.controller;
+
+import com.agustincoding.ragebaitgen.gemini.GeminiService;
+import com.agustincoding.ragebaitgen.gemini.ReplayTransport;
+import com.agustincoding.ragebaitgen.logging.Log;
+import com.agustincoding.ragebaitgen.model.PostRequest;
+import com.agustincoding.ragebaitgen.persistence.PostFileStore;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.stream.Stream;
+
+/**
+ * Runs the full generate path (prompt, decode, parse, save, history append) against a recorded
+ * fixture instead of the live API, and prints latency percentiles.
+ * Usage: ReplayBenchmark fixture.jsonl [iterations] [--realtime]
+ * Each iteration replays every exchange of the fixture once, in file order, into a temporary
+ * output directory that is deleted afterwards.
+ * Lives with the tests so it is not shipped; run it from the test classpath (see README).
+ */
+public final class ReplayBenchmark {
+
+    private static final PostRequest REQUEST = new PostRequest(
+            "AmItheAsshole",
+            "A subreddit for people to ask if they were the asshole in a particular situation.",
+            "Posts are limited to 3,000 characters.",
+            "");
+
+    private ReplayBenchmark() {
+        // Command-line entry point only
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length == 0) {
+            throw new IllegalArgumentException("Usage: ReplayBenchmark <fixture.jsonl> [iterations] [--realtime]");
+        }
+        Path fixture = Path.of(args[0]);
+        int iterations = args.length > 1 && !args[1].startsWith("--") ? Integer.parseInt(args[1]) : 1;
+        boolean realtime = Arrays.asList(args).contains("--realtime");
+
+        ReplayTransport replay = ReplayTransport.load(fixture, realtime);
+        GeminiService.setTransport(replay);
+
+        Path outputDirectory = Files.createTempDirectory("ragebait-replay");
+        try {
+            PostGenerationController controller = new PostGenerationController(new PostFileStore(outputDirectory));
+            int runs = iterations * replay.getExchanges().size();
+            long[] latencies = new long[runs];
+            int failures = 0;
+            try {
+                controller.prepareStorage();
+                for (int i = 0; i < runs; i++) {
+                    long start = System.nanoTime();
+                    GenerationResult result = controller.generate(REQUEST, Log.newRequestId());
+                    latencies[i] = System.nanoTime() - start;
+                    if (!result.isSuccess() || !result.isSaved()) {
+                        failures++;
+                    }
+                }
+            } finally {
+                controller.closeStorage();
+            }
+
+            Arrays.sort(latencies);
+            System.out.printf("runs=%d failures=%d realtime=%s%n", runs, failures, realtime);
+            System.out.printf("latency ms: mean=%.3f p50=%.3f p95=%.3f max=%.3f%n",
+                    Arrays.stream(latencies).average().orElse(0) / 1e6,
+                    percentile(latencies, 0.50) / 1e6,
+                    percentile(latencies, 0.95) / 1e6,
+                    latencies[latencies.length - 1] / 1e6);
+        } finally {
+            GeminiService.setTransport(null);
+            deleteRecursively(outputDirectory);
+            Log.shutdown();
+        }
+    }
+
+    private static long percentile(long[] sorted, double fraction) {
+        int index = (int) Math.ceil(fraction * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(index, sorted.length - 1))];
+    }
+
+    private static void deleteRecursively(Path directory) throws IOException {
+        try (Stream<Path> paths = Files.walk(directory)) {
+            for (Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+                Files.deleteIfExists(path);
+            }
+        }
+    }
+}
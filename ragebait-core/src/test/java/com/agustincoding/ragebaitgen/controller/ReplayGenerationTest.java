@@ -0,0 +1,92 @@
+package com.agustincoding.ragebaitgen.controller;
+
+import com.agustincoding.ragebaitgen.gemini.GeminiService;
+import com.agustincoding.ragebaitgen.gemini.ReplayTransport;
+import com.agustincoding.ragebaitgen.model.PostRequest;
+import com.agustincoding.ragebaitgen.persistence.PostFileStore;
+import com.agustincoding.ragebaitgen.persistence.StoredPost;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Runs the generate path against the recorded fixture in src/test/resources/fixtures
+ */
+class ReplayGenerationTest {
+
+    private static final PostRequest REQUEST = new PostRequest(
+            "AmItheAsshole", "Judgement calls", "No violence", "");
+
+    @TempDir
+    Path directory;
+
+    @AfterEach
+    void restoreTransport() {
+        GeminiService.setTransport(null);
+    }
+
+    @Test
+    void replaysTheFixtureIntoTheSamePostsEveryRun() throws IOException, URISyntaxException {
+        List<String> first = replay(directory.resolve("first"));
+        List<String> second = replay(directory.resolve("second"));
+
+        assertEquals(List.of(
+                "AITA for refusing to share the fries I paid for?|My roommate keeps eating my fries.\n\n"
+                        + "I told her to buy her own. She says I'm \"petty\".",
+                "WIBTA if I cancelled my sister's birthday dinner?|She invited my ex without asking me.\n\n"
+                        + "Now the whole family is upset with me — not her.",
+                "AITA for refusing to share the fries I paid for?|My roommate keeps eating my fries.\n\n"
+                        + "I told her to buy her own. She says I'm \"petty\"."), first);
+        assertEquals(first, second);
+    }
+
+    @Test
+    void savesEveryReplayedPostToFilesAndHistory() throws IOException, URISyntaxException {
+        Path output = directory.resolve("posts");
+        replay(output);
+
+        PostGenerationController controller = new PostGenerationController(new PostFileStore(output));
+        try {
+            controller.prepareStorage();
+            List<StoredPost> history = controller.getHistory().loadAll();
+            assertEquals(3, history.size());
+            assertEquals("AmItheAsshole", history.get(0).getSubreddit());
+            assertTrue(history.get(0).getCreatedAtMillis() <= history.get(2).getCreatedAtMillis());
+        } finally {
+            controller.closeStorage();
+        }
+        try (var files = Files.newDirectoryStream(output, PostFileStore.FILE_PATTERN)) {
+            assertTrue(files.iterator().hasNext());
+        }
+    }
+
+    // Three generations over a two-exchange fixture; returns "title|content" for each
+    private static List<String> replay(Path output) throws IOException, URISyntaxException {
+        Path fixture = Path.of(ReplayGenerationTest.class.getResource("/fixtures/replay-session.jsonl").toURI());
+        GeminiService.setTransport(ReplayTransport.load(fixture, false));
+
+        PostGenerationController controller = new PostGenerationController(new PostFileStore(output));
+        List<String> posts = new ArrayList<>();
+        try {
+            controller.prepareStorage();
+            for (int i = 0; i < 3; i++) {
+                GenerationResult result = controller.generate(REQUEST, "replay-" + i);
+                assertTrue(result.isSuccess());
+                posts.add(result.post().getTitle() + "|" + result.post().getContent());
+            }
+        } finally {
+            controller.closeStorage();
+        }
+        return posts;
+    }
+}
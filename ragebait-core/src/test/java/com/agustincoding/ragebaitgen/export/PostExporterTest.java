@@ -0,0 +1,135 @@
+package com.agustincoding.ragebaitgen.export;
+
+import com.agustincoding.ragebaitgen.model.Post;
+import com.agustincoding.ragebaitgen.persistence.PostHistoryStore;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class PostExporterTest {
+
+    // 2024-03-01T10:00:00Z
+    private static final long MARCH_1 = 1_709_287_200_000L;
+    private static final long HOUR = 3_600_000L;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void quotesCsvFieldsPerRfc4180() throws IOException {
+        try (PostHistoryStore history = PostHistoryStore.open(directory.resolve("history"))) {
+            history.append(new Post.Builder()
+                    .title("He said \"no\", twice")
+                    .content("Line one\r\nLine two\nend")
+                    .subreddit("AmItheAsshole")
+                    .subredditDescription("plain")
+                    .intensity(Post.PostIntensity.HIGH)
+                    .build(), MARCH_1);
+
+            assertEquals("""
+                    created_at,subreddit,topic,intensity,title,content,subreddit_description,limitations\r
+                    2024-03-01T10:00:00Z,AmItheAsshole,,HIGH,"He said ""no"", twice","Line one\r
+                    Line two
+                    end",plain,\r
+                    """, export(history, ExportFilter.all(), ExportFormat.CSV));
+        }
+    }
+
+    @Test
+    void escapesJsonlStringsAndWritesMissingFieldsAsNull() throws IOException {
+        try (PostHistoryStore history = PostHistoryStore.open(directory.resolve("history"))) {
+            history.append(new Post.Builder()
+                    .title("Title")
+                    .content("Quote \" backslash \\ tab\tnewline\ncontrol\u0001")
+                    .subreddit("AmItheAsshole")
+                    .subredditDescription("Judgement calls")
+                    .topic("roommates")
+                    .generationPrompt("Write about \"roommates\"\nin r\\AITA style")
+                    .build(), MARCH_1);
+
+            assertEquals("{\"createdAt\":\"2024-03-01T10:00:00Z\",\"subreddit\":\"AmItheAsshole\","
+                            + "\"subredditDescription\":\"Judgement calls\",\"limitations\":null,"
+                            + "\"topic\":\"roommates\",\"intensity\":\"MODERATE\",\"title\":\"Title\","
+                            + "\"content\":\"Quote \\\" backslash \\\\ tab\\tnewline\\ncontrol\\u0001\","
+                            + "\"generationPrompt\":\"Write about \\\"roommates\\\"\\nin r\\\\AITA style\"}\n",
+                    export(history, ExportFilter.all(), ExportFormat.JSONL));
+        }
+    }
+
+    @Test
+    void filtersByHalfOpenRangeSubredditAndTopic() throws IOException {
+        try (PostHistoryStore history = PostHistoryStore.open(directory.resolve("history"))) {
+            history.append(post("Before", "AmItheAsshole", "Roommates"), MARCH_1 - 1);
+            history.append(post("At start", "AmItheAsshole", "Noisy ROOMMATES upstairs"), MARCH_1);
+            history.append(post("Other subreddit", "pettyrevenge", "roommates"), MARCH_1 + HOUR);
+            history.append(post("No topic", "AmItheAsshole", null), MARCH_1 + HOUR);
+            history.append(post("Other topic", "amitheasshole", "weddings"), MARCH_1 + HOUR);
+            history.append(post("Last in range", "amitheasshole", "roommate and roommates"), MARCH_1 + 2 * HOUR - 1);
+            history.append(post("At end", "AmItheAsshole", "roommates"), MARCH_1 + 2 * HOUR);
+
+            ExportFilter filter = new ExportFilter(Instant.ofEpochMilli(MARCH_1),
+                    Instant.ofEpochMilli(MARCH_1 + 2 * HOUR), " r/AMITHEASSHOLE ", "Roommates");
+            assertEquals("""
+                    title
+                    At start
+                    Last in range
+                    """, titles(history, filter));
+
+            // Blank criteria match everything
+            ExportFilter blank = new ExportFilter(null, null, " ", "");
+            assertEquals(7, PostExporter.export(history, blank, ExportFormat.CSV, directory.resolve("all.csv")).exported());
+            assertThrows(IllegalArgumentException.class, () -> new ExportFilter(Instant.ofEpochMilli(MARCH_1),
+                    Instant.ofEpochMilli(MARCH_1), null, null));
+        }
+    }
+
+    @Test
+    void deletesThePartialFileWhenTheScanFails() throws IOException {
+        Path target = directory.resolve("export.csv");
+        Files.writeString(target, "previous export");
+        PostHistoryStore history = PostHistoryStore.open(directory.resolve("history"));
+        history.append(post("Title", "AmItheAsshole", null), MARCH_1);
+        history.close();
+
+        assertThrows(IOException.class, () -> PostExporter.export(history, ExportFilter.all(), ExportFormat.CSV, target));
+        assertFalse(Files.exists(directory.resolve("export.csv.part")));
+        assertEquals("previous export", Files.readString(target));
+    }
+
+    private String export(PostHistoryStore history, ExportFilter filter, ExportFormat format) throws IOException {
+        Path target = directory.resolve("export." + format.getExtension());
+        PostExporter.export(history, filter, format, target);
+        assertFalse(Files.exists(directory.resolve(target.getFileName() + ".part")));
+        return Files.readString(target, StandardCharsets.UTF_8);
+    }
+
+    // Only the title column of a CSV export, one per line
+    private String titles(PostHistoryStore history, ExportFilter filter) throws IOException {
+        StringBuilder titles = new StringBuilder();
+        for (String line : export(history, filter, ExportFormat.CSV).split("\r\n")) {
+            titles.append(line.split(",")[4]).append('\n');
+        }
+        return titles.toString();
+    }
+
+    private static Post post(String title, String subreddit, String topic) {
+        Post.Builder builder = new Post.Builder()
+                .title(title)
+                .content("Content of " + title)
+                .subreddit(subreddit)
+                .subredditDescription("Judgement calls");
+        if (topic != null) {
+            builder.topic(topic);
+        }
+        return builder.build();
+    }
+}
@@ -0,0 +1,110 @@
+package com.agustincoding.ragebaitgen.gemini;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CandidateTextDecoderTest {
+
+    private static final String RESPONSE = """
+            {
+              "candidates": [
+                {
+                  "content": {
+                    "parts": [
+                      {"text": "TITLE: Caf\\u00e9 \\"drama\\"\\n\\n"},
+                      {"text": "CONTENT:\\nIt was 5\\/5 \\ud83d\\ude21"}
+                    ],
+                    "role": "model"
+                  },
+                  "finishReason": "STOP",
+                  "safetyRatings": [{"category": "HARM_CATEGORY_HARASSMENT", "probability": "NEGLIGIBLE"}]
+                },
+                {"content": {"parts": [{"text": "second candidate"}]}}
+              ],
+              "usageMetadata": {"promptTokenCount": 12, "totalTokenCount": 3.5e2, "cached": false, "x": null}
+            }""";
+
+    private static final String EXPECTED = "TITLE: Café \"drama\"\n\nCONTENT:\nIt was 5/5 \ud83d\ude21";
+
+    @Test
+    void joinsThePartsOfTheFirstCandidate() throws IOException {
+        assertEquals(EXPECTED, decode(1_000, RESPONSE));
+    }
+
+    @Test
+    void decodesTheSameWhereverTheChunksSplit() throws IOException {
+        // Every split point, including inside escapes, keys and numbers
+        for (int split = 1; split < RESPONSE.length(); split++) {
+            assertEquals(EXPECTED, decode(1_000, RESPONSE.substring(0, split), RESPONSE.substring(split)),
+                    "split at " + split);
+        }
+        String[] single = RESPONSE.split("");
+        assertEquals(EXPECTED, decode(1_000, single));
+    }
+
+    @Test
+    void passesEachChunksTextToTheListener() throws IOException {
+        List<String> fragments = new ArrayList<>();
+        CandidateTextDecoder decoder = new CandidateTextDecoder(1_000, fragments::add);
+        decoder.onChunk("{\"candidates\":[{\"content\":{\"parts\":[{\"text\":\"Hel");
+        decoder.onChunk("lo\\");
+        decoder.onChunk("n\"},{\"text\":\"world\"}]}}]}");
+
+        assertEquals(List.of("Hel", "lo", "\nworld"), fragments);
+        assertEquals(String.join("", fragments), decoder.finish());
+    }
+
+    @Test
+    void failsAtTheChunkThatCrossesTheCandidateLimit() throws IOException {
+        CandidateTextDecoder decoder = new CandidateTextDecoder(10);
+        decoder.onChunk("{\"candidates\":[{\"content\":{\"parts\":[{\"text\":\"0123456789");
+
+        ResponseTooLargeException e = assertThrows(ResponseTooLargeException.class, () -> decoder.onChunk("X"));
+        assertEquals(CandidateTextDecoder.CANDIDATE_TEXT, e.getPart());
+        assertTrue(decoder.getPeakRetainedChars() <= 10 + 32);
+    }
+
+    @Test
+    void keepsOnlyTheCandidateText() throws IOException {
+        CandidateTextDecoder decoder = new CandidateTextDecoder(1_000);
+        String padding = "x".repeat(100_000);
+        decoder.onChunk("{\"promptFeedback\":{\"text\":\"" + padding + "\"},");
+        decoder.onChunk("\"candidates\":[{\"content\":{\"parts\":[{\"text\":\"short\"}]}}]}");
+
+        assertEquals("short", decoder.finish());
+        assertTrue(decoder.getPeakRetainedChars() < 100, String.valueOf(decoder.getPeakRetainedChars()));
+    }
+
+    @Test
+    void reportsErrorBodiesAndMissingCandidatesAsFailures() {
+        IOException error = assertThrows(IOException.class,
+                () -> decode(1_000, "{\"error\":{\"code\":429,\"message\":\"Quota exceeded\",\"status\":\"RESOURCE_EXHAUSTED\"}}"));
+        assertEquals("Gemini returned an error: Quota exceeded", error.getMessage());
+
+        assertThrows(IOException.class, () -> decode(1_000, "{\"candidates\":[]}"));
+        assertThrows(IOException.class, () -> decode(1_000, "{\"candidates\":[{\"finishReason\":\"SAFETY\"}]}"));
+    }
+
+    @Test
+    void rejectsMalformedBodies() {
+        for (String body : new String[]{"", "{", "{\"candidates\":[}", "{\"a\" 1}", "{\"a\":tru}", "{\"a\":1,}",
+                "[1,]", "{\"a\":\"\\x\"}", "{} {}", "not json"}) {
+            assertThrows(IOException.class, () -> decode(1_000, body), body);
+        }
+    }
+
+    private static String decode(int maxCandidateChars, String... chunks) throws IOException {
+        CandidateTextDecoder decoder = new CandidateTextDecoder(maxCandidateChars);
+        for (String chunk : chunks) {
+            decoder.onChunk(chunk);
+        }
+        return decoder.finish();
+    }
+}
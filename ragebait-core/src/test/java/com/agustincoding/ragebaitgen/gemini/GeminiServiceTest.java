@@ -0,0 +1,54 @@
+package com.agustincoding.ragebaitgen.gemini;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class GeminiServiceTest {
+
+    @AfterEach
+    void restoreDefaults() {
+        GeminiService.setTransport(null);
+        GeminiService.setResponseLimits(null);
+    }
+
+    @Test
+    void returnsTheCandidateTextOfAStreamedResponse() throws IOException {
+        replay("{\"candidates\":[{\"content\":{\"parts\":[{\"te", "xt\":\"TITLE: T\\n\\nCONTENT:\\nBody\"}]}}]}");
+
+        assertEquals("TITLE: T\n\nCONTENT:\nBody", GeminiService.requestText("prompt", "test"));
+    }
+
+    @Test
+    void failsInsteadOfReturningErrorBodiesAsText() {
+        replay("{\"error\":{\"code\":400,\"message\":\"API key not valid\"}}");
+        assertThrows(IOException.class, () -> GeminiService.requestText("prompt", "test"));
+
+        replay("<html>Bad gateway</html>");
+        assertThrows(IOException.class, () -> GeminiService.requestText("prompt", "test"));
+    }
+
+    @Test
+    void enforcesTheBodyLimitAcrossChunks() {
+        GeminiService.setResponseLimits(new ResponseLimits(20, 1_000));
+        replay("{\"candidates\":[", "{\"content\":{}}]}");
+
+        ResponseTooLargeException e = assertThrows(ResponseTooLargeException.class,
+                () -> GeminiService.requestText("prompt", "test"));
+        assertEquals("response body", e.getPart());
+    }
+
+    private static void replay(String... chunks) {
+        List<RecordedExchange.Chunk> recorded = new ArrayList<>();
+        for (String chunk : chunks) {
+            recorded.add(new RecordedExchange.Chunk(0, chunk));
+        }
+        GeminiService.setTransport(new ReplayTransport(List.of(new RecordedExchange("{}", recorded, 0, null)), false));
+    }
+}
@@ -0,0 +1,42 @@
+package com.agustincoding.ragebaitgen.gemini;
+
+import com.agustincoding.ragebaitgen.model.PostRequest;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RagebaitPromptBuilderTest {
+
+    @Test
+    void includesTheSubredditAndDescription() {
+        String prompt = RagebaitPromptBuilder.build(new PostRequest("pettyrevenge", "Small acts of revenge", "", ""));
+
+        assertTrue(prompt.contains("**TARGET SUBREDDIT:** r/pettyrevenge"));
+        assertTrue(prompt.contains("**SUBREDDIT CONTEXT:** Small acts of revenge"));
+        assertTrue(prompt.contains("TITLE: [Your engaging title here]"));
+    }
+
+    @Test
+    void addsLimitationsAndTopicOnlyWhenPresent() {
+        String plain = RagebaitPromptBuilder.build(new PostRequest("pettyrevenge", "Revenge", "", ""));
+        String full = RagebaitPromptBuilder.build(new PostRequest("pettyrevenge", "Revenge", "No names", "Office"));
+
+        assertFalse(plain.contains("CRITICAL SUBREDDIT RESTRICTIONS"));
+        assertFalse(plain.contains("SPECIFIC TOPIC"));
+        assertTrue(full.contains("**CRITICAL SUBREDDIT RESTRICTIONS:** No names"));
+        assertTrue(full.contains("**SPECIFIC TOPIC TO FOCUS ON:** Office"));
+    }
+
+    @Test
+    void sizeEstimateMatchesTheBuiltPrompt() {
+        PostRequest request = new PostRequest("pettyrevenge", "Small acts of revenge", "No names, no doxxing", "Office");
+
+        PromptSizeEstimator.Estimate estimate = PromptSizeEstimator.estimate(
+                request.subredditName().length(), request.subredditDescription().length(),
+                request.limitations().length(), request.topic().length());
+
+        assertEquals(RagebaitPromptBuilder.build(request).length(), estimate.chars());
+    }
+}
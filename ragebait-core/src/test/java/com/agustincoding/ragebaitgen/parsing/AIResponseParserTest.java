@@ -0,0 +1,64 @@
+package com.agustincoding.ragebaitgen.parsing;
+
+import com.agustincoding.ragebaitgen.model.Post;
+import com.agustincoding.ragebaitgen.model.PostRequest;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AIResponseParserTest {
+
+    private static final PostRequest REQUEST = new PostRequest(
+            "AmItheAsshole", "Judgement calls", "No violence", "neighbours");
+
+    @Test
+    void parsesTitleAndContent() {
+        String response = """
+                TITLE: AITA for parking in my own driveway?
+
+                CONTENT:
+                My neighbour says the driveway is shared.
+
+                It is not.""";
+
+        Post post = AIResponseParser.parse(response, REQUEST, "test");
+
+        assertEquals("AITA for parking in my own driveway?", post.getTitle());
+        assertEquals("My neighbour says the driveway is shared.\n\nIt is not.", post.getContent());
+    }
+
+    @Test
+    void copiesTheRequestMetadata() {
+        Post post = AIResponseParser.parse("TITLE: A title here\n\nCONTENT:\nBody", REQUEST, "test");
+
+        assertEquals("AmItheAsshole", post.getSubreddit());
+        assertEquals("Judgement calls", post.getSubredditDescription());
+        assertEquals("No violence", post.getLimitations());
+        assertEquals("neighbours", post.getTopic());
+        assertEquals(Post.PostIntensity.MODERATE, post.getIntensity());
+    }
+
+    @Test
+    void leavesOptionalFieldsUnsetWhenNotRequested() {
+        PostRequest request = new PostRequest("AmItheAsshole", "Judgement calls", "", "");
+
+        Post post = AIResponseParser.parse("TITLE: A title here\n\nCONTENT:\nBody", request, "test");
+
+        assertNull(post.getLimitations());
+        assertNull(post.getTopic());
+    }
+
+    @Test
+    void fallsBackToTheFirstLongLineWithoutMarkers() {
+        String response = "Short\nThis line is long enough to be a title\nAnd this is the rest of the story.";
+
+        Post post = AIResponseParser.parse(response, REQUEST, "test");
+
+        assertEquals("This line is long enough to be a title", post.getTitle());
+        assertTrue(post.getContent().contains("rest of the story"));
+        assertFalse(post.getContent().isBlank());
+    }
+}
@@ -0,0 +1,84 @@
+package com.agustincoding.ragebaitgen.parsing;
+
+import com.agustincoding.ragebaitgen.model.Post;
+import com.agustincoding.ragebaitgen.persistence.PostFileStore;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LegacyPostParserTest {
+
+    @Test
+    void readsBackEveryFieldPostFileStoreWrites() {
+        Post post = new Post.Builder()
+                .title("AITA for refusing to share my fries?")
+                .content("First paragraph.\n\nSecond paragraph with a - dash and r/other mention.")
+                .subreddit("AmItheAsshole")
+                .subredditDescription("A catharsis for the frustrated moral philosopher")
+                .limitations("No violence")
+                .topic("food")
+                .intensity(Post.PostIntensity.HIGH)
+                .build();
+        LocalDateTime before = LocalDateTime.now().withNano(0);
+
+        LegacyPostParser.Result result = LegacyPostParser.parse(PostFileStore.formatPostForFile(post));
+
+        assertSamePost(post, result.post());
+        assertNotNull(result.generatedAt());
+        assertTrue(!result.generatedAt().isBefore(before), result.generatedAt().toString());
+    }
+
+    @Test
+    void readsBackPostsWithoutOptionalHeaders() {
+        Post post = new Post("Title", "Content", "pettyrevenge");
+        post.setSubredditDescription("Small revenge stories");
+
+        Post parsed = LegacyPostParser.parse(PostFileStore.formatPostForFile(post)).post();
+
+        assertSamePost(post, parsed);
+        assertNull(parsed.getLimitations());
+        assertNull(parsed.getTopic());
+    }
+
+    @Test
+    void keepsMultiLineHeaderValues() {
+        Post post = new Post("Title", "Content", "MaliciousCompliance");
+        post.setSubredditDescription("Line one\nLine two");
+        post.setLimitations("1. Be civil\n2. No doxxing\nTOPIC is not a header here");
+
+        Post parsed = LegacyPostParser.parse(PostFileStore.formatPostForFile(post)).post();
+
+        assertSamePost(post, parsed);
+    }
+
+    @Test
+    void readsWindowsLineEndings() {
+        Post post = new Post("Title", "Line one\nLine two", "AmItheAsshole");
+        post.setSubredditDescription("Description");
+
+        String text = PostFileStore.formatPostForFile(post).replace("\n", "\r\n");
+
+        assertSamePost(post, LegacyPostParser.parse(text).post());
+    }
+
+    @Test
+    void rejectsFilesWithoutATitleSection() {
+        assertThrows(IllegalArgumentException.class, () -> LegacyPostParser.parse("SUBREDDIT: r/x\n"));
+    }
+
+    private static void assertSamePost(Post expected, Post actual) {
+        assertEquals(expected.getTitle(), actual.getTitle());
+        assertEquals(expected.getContent(), actual.getContent());
+        assertEquals(expected.getSubreddit(), actual.getSubreddit());
+        assertEquals(expected.getSubredditDescription(), actual.getSubredditDescription());
+        assertEquals(expected.getLimitations(), actual.getLimitations());
+        assertEquals(expected.getTopic(), actual.getTopic());
+        assertEquals(expected.getIntensity(), actual.getIntensity());
+    }
+}
@@ -0,0 +1,141 @@
+package com.agustincoding.ragebaitgen.persistence;
+
+import com.agustincoding.ragebaitgen.model.Post;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ColdTierTest {
+
+    private static final long FIRST_OFFSET = 4;
+    // About 2 KB per record, so the records fill more blocks than the cache holds
+    private static final int RECORDS = (ColdTier.CACHED_BLOCKS + 8) * ColdTier.BLOCK_SIZE / 2_000;
+
+    @TempDir
+    Path directory;
+
+    private final StringDictionary dictionary = new StringDictionary();
+    private final List<Long> offsets = new ArrayList<>();
+    private final List<Long> blockStarts = new ArrayList<>();
+
+    @Test
+    void findsEveryRecordThroughTheBlockIndex() throws IOException {
+        long end;
+        try (ColdTier tier = ColdTier.open(directory, FIRST_OFFSET, FIRST_OFFSET)) {
+            end = append(tier, RECORDS);
+            assertEquals(end, tier.end());
+            assertEquals(RECORDS, tier.recordCount());
+            assertTrue(tier.blockCount() > ColdTier.CACHED_BLOCKS, "blocks: " + tier.blockCount());
+
+            assertReadsInRandomOrder(tier);
+            assertThrows(IllegalArgumentException.class, () -> tier.read(end, dictionary));
+            assertThrows(IllegalArgumentException.class, () -> tier.read(FIRST_OFFSET - 1, dictionary));
+        }
+
+        // The index is loaded again at open
+        try (ColdTier tier = ColdTier.open(directory, FIRST_OFFSET, end)) {
+            assertEquals(RECORDS, tier.recordCount());
+            assertReadsInRandomOrder(tier);
+        }
+    }
+
+    @Test
+    void evictsTheLeastRecentlyUsedBlock() throws IOException {
+        try (ColdTier tier = ColdTier.open(directory, FIRST_OFFSET, FIRST_OFFSET)) {
+            append(tier, RECORDS);
+            assertEquals(tier.blockCount(), blockStarts.size());
+
+            // Fill the cache with the first CACHED_BLOCKS blocks, then use the first one again
+            for (int i = 0; i < ColdTier.CACHED_BLOCKS; i++) {
+                tier.read(blockStarts.get(i), dictionary);
+            }
+            tier.read(blockStarts.get(0), dictionary);
+
+            tier.read(blockStarts.get(ColdTier.CACHED_BLOCKS), dictionary);
+            assertTrue(tier.isCached(blockStarts.get(0)));
+            assertFalse(tier.isCached(blockStarts.get(1)));
+            assertTrue(tier.isCached(blockStarts.get(ColdTier.CACHED_BLOCKS)));
+
+            // An evicted block is inflated again
+            assertEquals("Title 0", tier.read(offsets.get(0), dictionary).getTitle());
+            assertEquals(title(offsets.indexOf(blockStarts.get(1))), tier.read(blockStarts.get(1), dictionary).getTitle());
+        }
+    }
+
+    @Test
+    void scanningDoesNotEvictCachedBlocks() throws IOException {
+        try (ColdTier tier = ColdTier.open(directory, FIRST_OFFSET, FIRST_OFFSET)) {
+            append(tier, RECORDS);
+            tier.read(offsets.get(0), dictionary);
+
+            List<String> titles = new ArrayList<>();
+            tier.scan(tier.blockCount(), dictionary, (offset, post) -> titles.add(post.getTitle()));
+            assertEquals(RECORDS, titles.size());
+            assertEquals(title(RECORDS - 1), titles.get(RECORDS - 1));
+            assertTrue(tier.isCached(offsets.get(0)));
+            assertFalse(tier.isCached(offsets.get(RECORDS - 1)));
+        }
+    }
+
+    private void assertReadsInRandomOrder(ColdTier tier) throws IOException {
+        List<Integer> order = new ArrayList<>();
+        for (int i = 0; i < RECORDS; i++) {
+            order.add(i);
+        }
+        Collections.shuffle(order, new Random(3));
+        for (int i : order) {
+            StoredPost post = tier.read(offsets.get(i), dictionary);
+            assertEquals(title(i), post.getTitle());
+            assertEquals(1_700_000_000_000L + i, post.getCreatedAtMillis());
+        }
+    }
+
+    // Frames the records as history.bin does and compresses them; returns the logical end.
+    // Block starts follow ColdTier's rule: a block closes once it holds BLOCK_SIZE raw bytes.
+    private long append(ColdTier tier, int count) throws IOException {
+        Random random = new Random(1);
+        ByteArrayOutputStream framed = new ByteArrayOutputStream();
+        long offset = FIRST_OFFSET;
+        long blockBytes = 0;
+        for (int i = 0; i < count; i++) {
+            if (blockBytes == 0) {
+                blockStarts.add(offset);
+            }
+            StringBuilder content = new StringBuilder();
+            int length = 1_500 + random.nextInt(1_000);
+            while (content.length() < length) {
+                content.append((char) ('a' + random.nextInt(26)));
+            }
+            byte[] record = PostCodec.encode(new Post(title(i), content.toString(), "AmItheAsshole"),
+                    1_700_000_000_000L + i, dictionary);
+            PostCodec.writeInt(framed, record.length);
+            framed.write(record);
+            offsets.add(offset);
+            offset += Integer.BYTES + record.length;
+            blockBytes += Integer.BYTES + record.length;
+            if (blockBytes >= ColdTier.BLOCK_SIZE) {
+                blockBytes = 0;
+            }
+        }
+        tier.append(new DataInputStream(new ByteArrayInputStream(framed.toByteArray())), FIRST_OFFSET, count);
+        return offset;
+    }
+
+    private static String title(int i) {
+        return "Title " + i;
+    }
+}
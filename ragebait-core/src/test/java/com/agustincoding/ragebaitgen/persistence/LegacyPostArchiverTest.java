@@ -0,0 +1,52 @@
+package com.agustincoding.ragebaitgen.persistence;
+
+import com.agustincoding.ragebaitgen.model.Post;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LegacyPostArchiverTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void deletesImportedFilesOnceTheHistoryIsSynced() throws IOException {
+        PostFileStore store = new PostFileStore(directory);
+        Path history = directory.resolve("history");
+        String imported = "ragebait_r_AmItheAsshole_2023-01-01_00-00-00.txt";
+        String notImported = "ragebait_r_AmItheAsshole_2023-01-01_00-00-01.txt";
+        for (String name : new String[]{imported, notImported}) {
+            Post post = new Post("Title of " + name, "Some content ".repeat(200), "AmItheAsshole");
+            Files.writeString(directory.resolve(name), PostFileStore.formatPostForFile(post));
+        }
+
+        try (PostHistoryStore posts = PostHistoryStore.open(history);
+             ImportCheckpoint checkpoint = ImportCheckpoint.open(history.resolve(ImportCheckpoint.FILE_NAME))) {
+            posts.append(new Post("Title of " + imported, "Some content ".repeat(200), "AmItheAsshole"), 1);
+            checkpoint.markImported(imported);
+
+            LegacyPostArchiver.Result result = new LegacyPostArchiver(store.getDirectory(), posts, checkpoint).archive();
+
+            assertEquals(1, result.archived());
+            assertEquals(1, result.kept());
+            assertTrue(result.bytesAfter() < result.bytesBefore());
+            assertEquals(LegacyPostArchiver.directorySize(directory), result.bytesAfter());
+            assertFalse(Files.exists(directory.resolve(imported)));
+            assertTrue(Files.exists(directory.resolve(notImported)));
+            // One short post does not fill a cold block, so it stays in history.bin
+            assertTrue(posts.hotSizeOnDisk() > 0);
+        }
+
+        try (PostHistoryStore posts = PostHistoryStore.open(history)) {
+            assertEquals("Title of " + imported, posts.loadAll().get(0).getTitle());
+        }
+    }
+}
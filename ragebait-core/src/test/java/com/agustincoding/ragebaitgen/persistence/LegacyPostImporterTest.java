@@ -0,0 +1,132 @@
+package com.agustincoding.ragebaitgen.persistence;
+
+import com.agustincoding.ragebaitgen.model.Post;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class LegacyPostImporterTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void appendsInCreationOrderWhateverTheParallelism() throws IOException {
+        // Written newest first, so neither listing nor task order matches creation order
+        int count = 40;
+        for (int i = count - 1; i >= 0; i--) {
+            writePostFile("2023-01-01T00:00:%02d".formatted(i), "Title " + i);
+        }
+
+        try (PostHistoryStore history = PostHistoryStore.open(directory.resolve("history"));
+             ImportCheckpoint checkpoint = ImportCheckpoint.open(directory.resolve("history").resolve(ImportCheckpoint.FILE_NAME))) {
+            LegacyPostImporter.Result result = new LegacyPostImporter(directory, history, checkpoint, 4).importAll(null);
+
+            assertEquals(count, result.imported());
+            List<String> titles = new ArrayList<>();
+            for (StoredPost post : history.loadAll()) {
+                titles.add(post.getTitle());
+            }
+            List<String> expected = new ArrayList<>();
+            for (int i = 0; i < count; i++) {
+                expected.add("Title " + i);
+            }
+            assertEquals(expected, titles);
+        }
+    }
+
+    @Test
+    void skipsFilesAlreadyRecordedAndCountsMalformedOnes() throws IOException {
+        writePostFile("2023-01-01T00:00:00", "Imported");
+        String recorded = writePostFile("2023-01-01T00:00:01", "Recorded by the app");
+        Files.writeString(directory.resolve("ragebait_r_broken_2023-01-01_00-00-02.txt"), "not a post");
+
+        try (PostHistoryStore history = PostHistoryStore.open(directory.resolve("history"));
+             ImportCheckpoint checkpoint = ImportCheckpoint.open(directory.resolve("history").resolve(ImportCheckpoint.FILE_NAME))) {
+            checkpoint.markImported(recorded);
+
+            LegacyPostImporter.Result result = new LegacyPostImporter(directory, history, checkpoint, 2).importAll(null);
+
+            assertEquals(3, result.total());
+            assertEquals(1, result.imported());
+            assertEquals(1, result.skipped());
+            assertEquals(1, result.failed());
+            assertEquals(1, history.count());
+
+            LegacyPostImporter.Result again = new LegacyPostImporter(directory, history, checkpoint, 2).importAll(null);
+            assertEquals(0, again.imported());
+            assertEquals(1, history.count());
+        }
+    }
+
+    @Test
+    void resumesAStoppedImportWithoutDuplicates() throws IOException {
+        // Named like the app names them, listed newest first; the name timestamp decides the order
+        int count = LegacyPostImporter.WINDOW_FILES * 2 + 10;
+        LocalDateTime base = LocalDateTime.of(2023, 1, 1, 0, 0);
+        for (int i = count - 1; i >= 0; i--) {
+            LocalDateTime createdAt = base.plusSeconds(i);
+            Post post = new Post("Title " + i, "Content " + i, "AmItheAsshole");
+            post.setSubredditDescription("Judgement calls");
+            String text = PostFileStore.formatPostForFile(post)
+                    .replaceFirst("Generated at: [^\n]*", "Generated at: " + createdAt);
+            Files.writeString(directory.resolve("ragebait_r_AmItheAsshole_%s.txt"
+                    .formatted(createdAt.format(PostFileStore.FILE_TIMESTAMP))), text, StandardCharsets.UTF_8);
+        }
+
+        try (PostHistoryStore history = PostHistoryStore.open(directory.resolve("history"));
+             ImportCheckpoint checkpoint = ImportCheckpoint.open(directory.resolve("history").resolve(ImportCheckpoint.FILE_NAME))) {
+            List<Integer> completed = new ArrayList<>();
+            LegacyPostImporter importer = new LegacyPostImporter(directory, history, checkpoint, 4);
+            // Stops the run in its second window, like a crash after the first one was synced
+            int stopAt = LegacyPostImporter.WINDOW_FILES + 10;
+            assertThrows(IllegalStateException.class, () -> importer.importAll((done, total) -> {
+                assertEquals(count, total);
+                completed.add(done);
+                if (done == stopAt) {
+                    throw new IllegalStateException("stopped");
+                }
+            }));
+            // Progress is reported per record, including those of the unfinished window
+            assertEquals(stopAt, completed.size());
+            assertEquals(stopAt, (int) completed.get(completed.size() - 1));
+            assertEquals(stopAt, history.count());
+            assertEquals(stopAt, checkpoint.size());
+
+            LegacyPostImporter.Result resumed = importer.importAll(null);
+            assertEquals(count, resumed.total());
+            assertEquals(count - stopAt, resumed.imported());
+            assertEquals(stopAt, resumed.skipped());
+
+            List<String> titles = new ArrayList<>();
+            for (StoredPost post : history.loadAll()) {
+                titles.add(post.getTitle());
+            }
+            for (int i = 0; i < count; i++) {
+                assertEquals("Title " + i, titles.get(i));
+            }
+            assertEquals(count, titles.size());
+        }
+    }
+
+    // Names without a timestamp: the header decides the order and the creation time
+    private String writePostFile(String generatedAt, String title) throws IOException {
+        Post post = new Post(title, "Content of " + title, "AmItheAsshole");
+        post.setSubredditDescription("Judgement calls");
+        String text = PostFileStore.formatPostForFile(post)
+                .replaceFirst("Generated at: [^\n]*", "Generated at: " + generatedAt);
+        String fileName = "ragebait_r_AmItheAsshole_%s.txt".formatted(title.replace(' ', '-'));
+        Files.writeString(directory.resolve(fileName), text, StandardCharsets.UTF_8);
+        return fileName;
+    }
+}
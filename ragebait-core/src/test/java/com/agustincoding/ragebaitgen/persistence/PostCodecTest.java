@@ -0,0 +1,131 @@
+package com.agustincoding.ragebaitgen.persistence;
+
+import com.agustincoding.ragebaitgen.model.Post;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class PostCodecTest {
+
+    @Test
+    void roundTripsEveryField() throws IOException {
+        Post post = new Post("Título 🔥", "Line one\nLine two", "AmItheAsshole");
+        post.setSubredditDescription("Judgement calls");
+        post.setLimitations("No violence");
+        post.setTopic("neighbours");
+        post.setIntensity(Post.PostIntensity.HIGH);
+        post.setGenerationPrompt("prompt text");
+        StringDictionary dictionary = new StringDictionary();
+
+        byte[] record = PostCodec.encode(post, 1_700_000_000_123L, dictionary);
+        StoredPost stored = PostCodec.decode(record, 0, record.length, dictionary);
+
+        assertEquals(PostCodec.SCHEMA_V1, stored.getSchemaVersion());
+        assertEquals(1_700_000_000_123L, stored.getCreatedAtMillis());
+        assertEquals(Post.PostIntensity.HIGH, stored.getIntensity());
+        assertEquals("Título 🔥", stored.getTitle());
+        assertEquals("Line one\nLine two", stored.getContent());
+        assertEquals("AmItheAsshole", stored.getSubreddit());
+        assertEquals("Judgement calls", stored.getSubredditDescription());
+        assertEquals("No violence", stored.getLimitations());
+        assertEquals("neighbours", stored.getTopic());
+        assertEquals("prompt text", stored.getGenerationPrompt());
+    }
+
+    @Test
+    void roundTripsNullsAndEmptyStrings() throws IOException {
+        Post post = new Post("", null, "s");
+        StringDictionary dictionary = new StringDictionary();
+
+        byte[] record = PostCodec.encode(post, 0, dictionary);
+        StoredPost stored = PostCodec.decode(record, 0, record.length, dictionary);
+
+        assertEquals("", stored.getTitle());
+        assertNull(stored.getContent());
+        assertNull(stored.getSubredditDescription());
+        assertNull(stored.getGenerationPrompt());
+        assertEquals(0, stored.getContentBytes());
+    }
+
+    @Test
+    void toPostKeepsTheCreationTime() throws IOException {
+        StringDictionary dictionary = new StringDictionary();
+        byte[] record = PostCodec.encode(new Post("Title", "Content", "s"), 1_700_000_000_000L, dictionary);
+
+        Post post = PostCodec.decode(record, 0, record.length, dictionary).toPost();
+
+        assertEquals(Instant.ofEpochMilli(1_700_000_000_000L), post.getCreatedAt());
+        assertEquals("Title", post.getTitle());
+    }
+
+    @Test
+    void keepsTheSchemaV1Layout() {
+        // Pinned bytes: changing them breaks every history written so far and needs a new schema version
+        Post post = new Post("T", "C", "s");
+        byte[] expected = {
+                1,                                  // schema version
+                1, 2, 3, 4, 5, 6, 7, 8,             // created-at
+                1,                                  // MODERATE
+                1, 0, 0, 0,                         // subreddit, description, limitations, topic ids
+                2, 'T', 2, 'C', 0                   // title, content, null prompt
+        };
+
+        assertArrayEquals(expected, PostCodec.encode(post, 0x0102030405060708L, new StringDictionary()));
+    }
+
+    @Test
+    void writesMultiByteVarInts() throws IOException {
+        StringDictionary dictionary = new StringDictionary();
+        for (int i = 0; i < 300; i++) {
+            dictionary.idOf("subreddit" + i);
+        }
+        String content = "x".repeat(20_000);
+
+        byte[] record = PostCodec.encode(new Post("Title", content, "subreddit299"), 0, dictionary);
+        StoredPost stored = PostCodec.decode(record, 0, record.length, dictionary);
+
+        assertEquals("subreddit299", stored.getSubreddit());
+        assertEquals(content, stored.getContent());
+    }
+
+    @Test
+    void decodesARecordInsideALargerBuffer() throws IOException {
+        StringDictionary dictionary = new StringDictionary();
+        byte[] record = PostCodec.encode(new Post("Title", "Content", "s"), 42, dictionary);
+        byte[] buffer = new byte[record.length + 10];
+        System.arraycopy(record, 0, buffer, 5, record.length);
+
+        StoredPost stored = PostCodec.decode(buffer, 5, record.length, dictionary);
+
+        assertEquals(42, stored.getCreatedAtMillis());
+        assertEquals("Content", stored.getContent());
+    }
+
+    @Test
+    void sharesDictionaryInstancesBetweenRecords() throws IOException {
+        StringDictionary dictionary = new StringDictionary();
+        byte[] first = PostCodec.encode(new Post("One", "C", new String("shared")), 0, dictionary);
+        byte[] second = PostCodec.encode(new Post("Two", "C", new String("shared")), 0, dictionary);
+
+        assertSame(PostCodec.decode(first, 0, first.length, dictionary).getSubreddit(),
+                PostCodec.decode(second, 0, second.length, dictionary).getSubreddit());
+    }
+
+    @Test
+    void rejectsUnknownSchemasAndTruncatedRecords() {
+        StringDictionary dictionary = new StringDictionary();
+        byte[] record = PostCodec.encode(new Post("Title", "Content", "s"), 0, dictionary);
+
+        byte[] future = record.clone();
+        future[0] = 99;
+        assertThrows(IOException.class, () -> PostCodec.decode(future, 0, future.length, dictionary));
+        assertThrows(IOException.class, () -> PostCodec.decode(record, 0, record.length - 3, dictionary));
+    }
+}
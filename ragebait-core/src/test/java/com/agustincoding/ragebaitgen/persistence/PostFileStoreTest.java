@@ -0,0 +1,31 @@
+package com.agustincoding.ragebaitgen.persistence;
+
+import com.agustincoding.ragebaitgen.model.Post;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PostFileStoreTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void savesOneFileNamedAfterTheSubreddit() throws IOException {
+        PostFileStore store = new PostFileStore(directory.resolve("posts"));
+        store.createDirectory();
+
+        String filename = store.save(new Post("A title", "Some content", "AmItheAsshole"));
+
+        assertTrue(filename.matches("ragebait_r_AmItheAsshole_\\d{4}-\\d{2}-\\d{2}_\\d{2}-\\d{2}-\\d{2}\\.txt"), filename);
+        String text = Files.readString(directory.resolve("posts").resolve(filename));
+        assertTrue(text.contains("SUBREDDIT: r/AmItheAsshole"));
+        assertTrue(text.contains("A title"));
+        assertTrue(text.contains("Some content"));
+    }
+}
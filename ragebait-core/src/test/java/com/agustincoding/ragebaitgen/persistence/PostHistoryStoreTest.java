@@ -0,0 +1,191 @@
+package com.agustincoding.ragebaitgen.persistence;
+
+import com.agustincoding.ragebaitgen.model.Post;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PostHistoryStoreTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void readsBackAppendedPostsAfterReopening() throws IOException {
+        List<Long> offsets = new ArrayList<>();
+        try (PostHistoryStore history = PostHistoryStore.open(directory)) {
+            for (int i = 0; i < 3; i++) {
+                offsets.add(history.append(post("Title " + i), 1_700_000_000_000L + i));
+            }
+        }
+
+        try (PostHistoryStore history = PostHistoryStore.open(directory)) {
+            assertEquals(3, history.count());
+            for (int i = 0; i < 3; i++) {
+                StoredPost stored = history.read(offsets.get(i));
+                assertEquals("Title " + i, stored.getTitle());
+                assertEquals("AmItheAsshole", stored.getSubreddit());
+                assertEquals(1_700_000_000_000L + i, stored.getCreatedAtMillis());
+            }
+        }
+    }
+
+    @Test
+    void failedAppendGivesBackItsDictionaryIds() throws IOException {
+        try (PostHistoryStore history = PostHistoryStore.open(directory)) {
+            history.append(post("First"), 1);
+
+            // Fails after the new subreddit has been given an id
+            Post broken = new Post("Broken", "Content", "pettyrevenge") {
+                @Override
+                public String getTitle() {
+                    throw new IllegalStateException("unreadable title");
+                }
+            };
+            assertThrows(IllegalStateException.class, () -> history.append(broken, 2));
+            assertEquals(1, history.count());
+
+            Post other = post("Third");
+            other.setSubreddit("MaliciousCompliance");
+            history.append(other, 3);
+        }
+
+        try (PostHistoryStore history = PostHistoryStore.open(directory)) {
+            List<StoredPost> posts = history.loadAll();
+            assertEquals(2, posts.size());
+            assertEquals("AmItheAsshole", posts.get(0).getSubreddit());
+            assertEquals("MaliciousCompliance", posts.get(1).getSubreddit());
+            assertEquals("Judgement calls", posts.get(1).getSubredditDescription());
+            assertEquals(3, history.getDictionary().size());
+        }
+    }
+
+    @Test
+    void readsEveryOffsetAcrossHotColdSplits() throws IOException {
+        List<Long> offsets = new ArrayList<>();
+        try (PostHistoryStore history = PostHistoryStore.open(directory)) {
+            for (int i = 0; i < 300; i++) {
+                offsets.add(history.append(longPost(i), 1_700_000_000_000L + i));
+            }
+
+            assertEquals(0, history.compact(Long.MAX_VALUE));
+            for (long keepHotBytes : new long[]{500_000, 200_000, 70_000, 0}) {
+                assertTrue(history.compact(keepHotBytes) > 0);
+                // Whole blocks only: what stays hot is what was asked for, plus less than a block and a record
+                long hot = history.hotSizeOnDisk();
+                assertTrue(hot >= keepHotBytes && hot < keepHotBytes + ColdTier.BLOCK_SIZE + 5_000,
+                        "hot " + hot + " keeping " + keepHotBytes);
+                assertReadsEveryOffset(history, offsets);
+            }
+        }
+
+        try (PostHistoryStore history = PostHistoryStore.open(directory)) {
+            assertEquals(300, history.count());
+            assertReadsEveryOffset(history, offsets);
+        }
+    }
+
+    @Test
+    void compactionLeavesRecordsShortOfABlockHot() throws IOException {
+        try (PostHistoryStore history = PostHistoryStore.open(directory)) {
+            history.append(longPost(0), 1);
+            assertEquals(0, history.compact(0));
+
+            for (int i = 1; i < 200; i++) {
+                history.append(longPost(i), 1 + i);
+            }
+            long moved = history.compact(0);
+            assertTrue(moved > 0 && moved < 200, "moved " + moved);
+            long blocks = coldBlocks();
+
+            // Repeating it seals nothing new until another block's worth has been added
+            history.append(longPost(200), 201);
+            assertEquals(0, history.compact(0));
+            assertEquals(blocks, coldBlocks());
+            assertEquals(201, history.loadAll().size());
+        }
+    }
+
+    @Test
+    void reopeningAfterAnInterruptedCompactionDropsTheNewColdBlocks() throws IOException {
+        List<Long> offsets = new ArrayList<>();
+        Path hot = directory.resolve(PostHistoryStore.HISTORY_FILE);
+        Path beforeCompaction = directory.resolve("history.bin.before");
+        long blocks;
+        try (PostHistoryStore history = PostHistoryStore.open(directory)) {
+            for (int i = 0; i < 200; i++) {
+                offsets.add(history.append(longPost(i), 1_700_000_000_000L + i));
+            }
+            history.compact(200_000);
+            blocks = coldBlocks();
+            for (int i = 200; i < 300; i++) {
+                offsets.add(history.append(longPost(i), 1_700_000_000_000L + i));
+            }
+            history.sync();
+            Files.copy(hot, beforeCompaction);
+
+            assertTrue(history.compact(0) > 0);
+            assertTrue(coldBlocks() > blocks);
+        }
+
+        // As if the process stopped after the cold tier was synced but before history.bin was replaced
+        Files.copy(beforeCompaction, hot, StandardCopyOption.REPLACE_EXISTING);
+        Files.writeString(directory.resolve(PostHistoryStore.HISTORY_FILE + ".tmp"), "partial copy");
+
+        try (PostHistoryStore history = PostHistoryStore.open(directory)) {
+            assertEquals(blocks, coldBlocks());
+            assertEquals(300, history.count());
+            assertReadsEveryOffset(history, offsets);
+            assertEquals(300, history.loadAll().size());
+            assertFalse(Files.exists(directory.resolve(PostHistoryStore.HISTORY_FILE + ".tmp")));
+
+            // The same records can be compacted again
+            assertTrue(history.compact(0) > 0);
+            assertReadsEveryOffset(history, offsets);
+        }
+    }
+
+    private long coldBlocks() throws IOException {
+        // Index: a 4-byte magic, then one 28-byte entry per block
+        return (Files.size(directory.resolve(ColdTier.INDEX_FILE)) - 4) / 28;
+    }
+
+    private static void assertReadsEveryOffset(PostHistoryStore history, List<Long> offsets) throws IOException {
+        for (int i = offsets.size() - 1; i >= 0; i--) {
+            StoredPost stored = history.read(offsets.get(i));
+            assertEquals("Title " + i, stored.getTitle());
+            assertEquals(longPost(i).getContent(), stored.getContent());
+        }
+    }
+
+    // About 2 KB, with text that does not repeat from post to post
+    private static Post longPost(int i) {
+        Random random = new Random(i);
+        StringBuilder content = new StringBuilder();
+        while (content.length() < 2_000) {
+            content.append((char) ('a' + random.nextInt(26)));
+            if (random.nextInt(6) == 0) {
+                content.append(' ');
+            }
+        }
+        return new Post("Title " + i, content.toString(), "AmItheAsshole");
+    }
+
+    static Post post(String title) {
+        Post post = new Post(title, "Content of " + title, "AmItheAsshole");
+        post.setSubredditDescription("Judgement calls");
+        return post;
+    }
+}
@@ -0,0 +1,50 @@
+package com.agustincoding.ragebaitgen.persistence;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class StringDictionaryTest {
+
+    @Test
+    void assignsStableIdsFromOne() {
+        StringDictionary dictionary = new StringDictionary();
+
+        assertEquals(StringDictionary.NULL_ID, dictionary.idOf(null));
+        assertEquals(1, dictionary.idOf("a"));
+        assertEquals(2, dictionary.idOf("b"));
+        assertEquals(1, dictionary.idOf("a"));
+        assertEquals("b", dictionary.valueOf(2));
+        assertNull(dictionary.valueOf(StringDictionary.NULL_ID));
+        assertThrows(IllegalArgumentException.class, () -> dictionary.valueOf(3));
+    }
+
+    @Test
+    void reportsOnlyNewEntriesAsPending() {
+        StringDictionary dictionary = new StringDictionary();
+        dictionary.load("loaded");
+        dictionary.idOf("loaded");
+        dictionary.idOf("new");
+
+        assertEquals(List.of("new"), dictionary.drainPending());
+        assertEquals(List.of(), dictionary.drainPending());
+    }
+
+    @Test
+    void truncateForgetsLaterEntries() {
+        StringDictionary dictionary = new StringDictionary();
+        dictionary.idOf("kept");
+        dictionary.drainPending();
+        dictionary.idOf("dropped");
+
+        dictionary.truncate(1);
+
+        assertEquals(1, dictionary.size());
+        assertEquals(List.of(), dictionary.drainPending());
+        assertEquals(2, dictionary.idOf("other"));
+    }
+}
@@ -0,0 +1,127 @@
+package com.agustincoding.ragebaitgen.controller;
+
+import com.agustincoding.ragebaitgen.logging.Log;
+import com.agustincoding.ragebaitgen.logging.Logger;
+import com.agustincoding.ragebaitgen.model.PostRequest;
+import com.agustincoding.ragebaitgen.persistence.DraftStore;
+
+import javax.swing.*;
+import java.io.IOException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+/**
+ * Debounced background autosave of the form.
+ * A keystroke only records when it happened; one pending check on a daemon thread waits until the
+ * form has been quiet for QUIET_PERIOD_MS, then snapshots it on the EDT and writes it off the EDT.
+ * Typing never touches the disk, and there is at most one write per quiet period.
+ */
+final class DraftAutosaver {
+
+    private static final Logger LOG = Log.getLogger(DraftAutosaver.class);
+
+    static final long QUIET_PERIOD_MS = 750;
+    private static final long FLUSH_TIMEOUT_MS = 2000;
+
+    private final DraftStore store;
+    // Reads the form; always called on the EDT
+    private final Supplier<PostRequest> snapshot;
+    private final ScheduledExecutorService scheduler;
+
+    private final AtomicBoolean checkPending = new AtomicBoolean();
+    private volatile long lastChangeNanos;
+    // Edits not yet snapshotted for a write; only touched on the EDT
+    private boolean dirty;
+    // Only touched on the scheduler thread
+    private PostRequest lastSaved;
+
+    DraftAutosaver(DraftStore store, Supplier<PostRequest> snapshot) {
+        this.store = store;
+        this.snapshot = snapshot;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "draft-autosave");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Loads the saved draft; it counts as already saved, so restoring it does not trigger a write
+     */
+    PostRequest restore() {
+        try {
+            PostRequest draft = store.load();
+            scheduler.execute(() -> lastSaved = draft);
+            return draft;
+        } catch (IOException | RuntimeException e) {
+            LOG.warn("Could not restore form draft", e).field("file", store.getFile()).log();
+            return null;
+        }
+    }
+
+    /**
+     * Called on every edit of the form
+     */
+    void changed() {
+        lastChangeNanos = System.nanoTime();
+        dirty = true;
+        if (!scheduler.isShutdown() && checkPending.compareAndSet(false, true)) {
+            scheduler.schedule(this::checkQuiet, QUIET_PERIOD_MS, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Writes any unsaved edits immediately and stops the background thread; called on the EDT when the window closes.
+     * A form the user has not edited since the last save (e.g. just cleared) leaves the saved draft alone.
+     */
+    void flush() {
+        try {
+            if (dirty) {
+                PostRequest draft = snapshot.get();
+                dirty = false;
+                scheduler.submit(() -> write(draft)).get(FLUSH_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException | TimeoutException e) {
+            LOG.warn("Could not save form draft on exit", e).field("file", store.getFile()).log();
+        } finally {
+            scheduler.shutdown();
+        }
+    }
+
+    private void checkQuiet() {
+        long quietMillis = (System.nanoTime() - lastChangeNanos) / 1_000_000;
+        if (quietMillis < QUIET_PERIOD_MS) {
+            // Still typing: look again when the quiet period after the last edit ends
+            scheduler.schedule(this::checkQuiet, QUIET_PERIOD_MS - quietMillis, TimeUnit.MILLISECONDS);
+            return;
+        }
+        // Edits from here on schedule a new check
+        checkPending.set(false);
+        SwingUtilities.invokeLater(() -> {
+            PostRequest draft = snapshot.get();
+            dirty = false;
+            if (!scheduler.isShutdown()) {
+                scheduler.execute(() -> write(draft));
+            }
+        });
+    }
+
+    private void write(PostRequest draft) {
+        if (draft.equals(lastSaved)) {
+            return;
+        }
+        try {
+            store.save(draft);
+            lastSaved = draft;
+        } catch (IOException e) {
+            LOG.warn("Could not save form draft", e).field("file", store.getFile()).log();
+        }
+    }
+}
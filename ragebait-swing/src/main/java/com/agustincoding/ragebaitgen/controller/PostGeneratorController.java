@@ -0,0 +1,352 @@
+package com.agustincoding.ragebaitgen.controller;
+
+import com.agustincoding.ragebaitgen.export.PostExporter;
+import com.agustincoding.ragebaitgen.gemini.PromptSizeEstimator;
+import com.agustincoding.ragebaitgen.logging.Log;
+import com.agustincoding.ragebaitgen.logging.Logger;
+import com.agustincoding.ragebaitgen.model.Post;
+import com.agustincoding.ragebaitgen.model.PostRequest;
+import com.agustincoding.ragebaitgen.persistence.DraftStore;
+import com.agustincoding.ragebaitgen.persistence.LegacyPostArchiver;
+import com.agustincoding.ragebaitgen.persistence.LegacyPostImporter;
+import com.agustincoding.ragebaitgen.view.ExportDialog;
+import com.agustincoding.ragebaitgen.view.PostGeneratorView;
+
+import javax.swing.*;
+import java.awt.*;
+import java.awt.event.WindowAdapter;
+import java.awt.event.WindowEvent;
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * JDK 21 Compatible Controller for the PostGeneratorView
+ * Thin Swing adapter: reads the inputs from the view and runs the core
+ * PostGenerationController on a SwingWorker
+ */
+public class PostGeneratorController {
+
+    private static final Logger LOG = Log.getLogger(PostGeneratorController.class);
+
+    private final PostGeneratorView view;
+    private final PostGenerationController generation;
+    private Post currentPost;
+    private DraftAutosaver drafts;
+
+    public PostGeneratorController(PostGeneratorView view) {
+        this(view, new PostGenerationController());
+    }
+
+    public PostGeneratorController(PostGeneratorView view, PostGenerationController generation) {
+        this.view = view;
+        this.generation = generation;
+        initializeController();
+        createOutputDirectory();
+        restoreDraft();
+        trackPromptSize();
+    }
+
+    private void initializeController() {
+        setupEventHandlers();
+        view.updateStatus("Controller initialized - Ready to generate posts", Color.GREEN);
+    }
+
+    private void setupEventHandlers() {
+        // Wire view buttons to controller methods using method references (JDK 21 style)
+        view.addGeneratePostListener(e -> handleGeneratePost());
+        view.addClearListener(e -> handleClearForm());
+        view.addExportHistoryListener(e -> handleExportHistory());
+        view.addArchivePostsListener(e -> handleArchivePosts());
+    }
+
+    /**
+     * Handles the Generate Post button action using SwingWorker for async processing
+     */
+    public void handleGeneratePost() {
+        // Inputs are read on the EDT; the worker only sees this snapshot
+        PostRequest request = readRequest();
+
+        // Validate input first
+        String validationError = generation.validate(request);
+        if (validationError != null) {
+            view.showError(validationError);
+            return;
+        }
+
+        view.updateStatus("Generating ragebait post...", Color.BLUE);
+        view.showProgress(true);
+
+        // Every log record of this generation carries the same request id
+        String requestId = Log.newRequestId();
+
+        // The raw response is shown as it streams in, then replaced by the parsed post
+        SwingWorker<GenerationResult, String> worker = new SwingWorker<>() {
+            private boolean streaming;
+            // publish() batches are delivered by a timer and can arrive after done()
+            private boolean finished;
+
+            @Override
+            protected GenerationResult doInBackground() {
+                // Gemini call, parsing and file I/O all stay off the EDT
+                return generation.generate(request, requestId, this::publish);
+            }
+
+            @Override
+            protected void process(List<String> fragments) {
+                if (finished) {
+                    return;
+                }
+                if (!streaming) {
+                    streaming = true;
+                    view.beginStreamingContent("");
+                }
+                view.appendGeneratedContent(String.join("", fragments));
+            }
+
+            @Override
+            protected void done() {
+                finished = true;
+                view.showProgress(false);
+                try {
+                    GenerationResult result = get();
+                    currentPost = result.post();
+                    if (result.isSuccess()) {
+                        // Display the generated content in the view
+                        view.setGeneratedContent(currentPost.getTitle(), currentPost.getContent());
+                        if (result.saveError() != null) {
+                            view.showError("Error saving post: " + result.saveError().getMessage());
+                        } else {
+                            view.updateStatus("Post generated successfully! Saved to: " + result.savedFilename(), Color.GREEN);
+                        }
+                    } else {
+                        clearStreamedPreview();
+                        view.showError("Failed to generate post. Please try again.");
+                    }
+                } catch (Exception e) {
+                    clearStreamedPreview();
+                    view.showError("Error generating post: " + e.getMessage());
+                    LOG.error("Error in post generation", e)
+                            .field("requestId", requestId)
+                            .field("phase", "complete")
+                            .log();
+                }
+            }
+
+            // A failed request must not leave its partial raw response looking like a post
+            private void clearStreamedPreview() {
+                if (streaming) {
+                    view.clearGeneratedContent();
+                }
+            }
+        };
+
+        worker.execute();
+    }
+
+    /**
+     * Handles the Clear Form button action
+     */
+    public void handleClearForm() {
+        currentPost = null;
+        view.updateStatus("Form cleared", Color.GREEN);
+    }
+
+    /**
+     * Handles the Export History button: asks for filters and a file, then streams the export off the EDT
+     */
+    public void handleExportHistory() {
+        ExportDialog.Options options = ExportDialog.show(view);
+        if (options == null) {
+            return;
+        }
+
+        view.setExportInProgress(true);
+        view.updateStatus("Exporting history...", Color.BLUE);
+
+        SwingWorker<PostExporter.Result, Void> worker = new SwingWorker<>() {
+            @Override
+            protected PostExporter.Result doInBackground() throws IOException {
+                return generation.exportHistory(options.filter(), options.format(), options.target());
+            }
+
+            @Override
+            protected void done() {
+                view.setExportInProgress(false);
+                try {
+                    PostExporter.Result result = get();
+                    view.updateStatus("Exported %d of %d posts to %s".formatted(result.exported(), result.scanned(),
+                            options.target().getFileName()), Color.GREEN);
+                } catch (Exception e) {
+                    LOG.error("Failed to export history", e)
+                            .field("phase", "export")
+                            .field("file", options.target())
+                            .log();
+                    view.showError("Could not export history: " + e.getMessage());
+                }
+            }
+        };
+
+        worker.execute();
+    }
+
+    /**
+     * Handles the Archive Posts button: after confirmation, compresses the history and deletes the
+     * text files already in it off the EDT, then reports the size of the output folder before and after
+     */
+    public void handleArchivePosts() {
+        boolean confirmed = view.confirm("Archive Posts",
+                "Saved post files that are already in the history will be compressed into it and deleted.\n"
+                        + "They stay available through Export History. Continue?");
+        if (!confirmed) {
+            return;
+        }
+
+        view.setArchiveInProgress(true);
+        view.updateStatus("Archiving saved posts...", Color.BLUE);
+
+        SwingWorker<LegacyPostArchiver.Result, Void> worker = new SwingWorker<>() {
+            @Override
+            protected LegacyPostArchiver.Result doInBackground() throws IOException {
+                return generation.archivePostFiles();
+            }
+
+            @Override
+            protected void done() {
+                view.setArchiveInProgress(false);
+                try {
+                    LegacyPostArchiver.Result result = get();
+                    view.updateStatus("Archived %d post files; folder size %s -> %s".formatted(result.archived(),
+                            formatSize(result.bytesBefore()), formatSize(result.bytesAfter())), Color.GREEN);
+                } catch (Exception e) {
+                    LOG.error("Failed to archive post files", e)
+                            .field("phase", "archive")
+                            .log();
+                    view.showError("Could not archive post files: " + e.getMessage());
+                }
+            }
+        };
+
+        worker.execute();
+    }
+
+    private static String formatSize(long bytes) {
+        if (bytes < 1024 * 1024) {
+            return "%.1f KB".formatted(bytes / 1024.0);
+        }
+        return "%.1f MB".formatted(bytes / (1024.0 * 1024));
+    }
+
+    /**
+     * Puts the last session's inputs back in the form and starts autosaving them.
+     * Runs from the constructor, before the window is shown, so the first frame already has the draft.
+     */
+    private void restoreDraft() {
+        DraftStore store = new DraftStore(generation.getStore().getDirectory().resolve(DraftStore.DEFAULT_FILE));
+        drafts = new DraftAutosaver(store, this::readRequest);
+
+        PostRequest draft = drafts.restore();
+        if (draft != null) {
+            view.setFormValues(draft.subredditName(), draft.subredditDescription(), draft.limitations(), draft.topic());
+        }
+
+        // Restoring, Clear and the defaults fill the form without notifying edit listeners,
+        // so only the user's own edits are saved over the draft
+        view.addFormEditListener(drafts::changed);
+        view.addWindowListener(new WindowAdapter() {
+            @Override
+            public void windowClosing(WindowEvent e) {
+                drafts.flush();
+            }
+        });
+    }
+
+    /**
+     * Keeps the estimated prompt size in the status bar up to date while the inputs are edited.
+     * Each update reads the four input lengths and does constant work, whatever the size of the inputs.
+     */
+    private void trackPromptSize() {
+        view.addFormChangeListener(this::updatePromptSize);
+        updatePromptSize();
+    }
+
+    private void updatePromptSize() {
+        int[] lengths = view.getInputLengths();
+        PromptSizeEstimator.Estimate estimate =
+                PromptSizeEstimator.estimate(lengths[0], lengths[1], lengths[2], lengths[3]);
+        String text = "Prompt: %,d chars, ~%,d tokens".formatted(estimate.chars(), estimate.tokens());
+        if (estimate.isWarning()) {
+            text += " (over %,d, consider shortening the inputs)".formatted(estimate.warnTokens());
+        }
+        view.showPromptSize(text, estimate.isWarning());
+    }
+
+    private PostRequest readRequest() {
+        return new PostRequest(
+                view.getSubredditName(),
+                view.getSubredditDescription(),
+                view.getLimitations(),
+                view.getTopic());
+    }
+
+    /**
+     * Ensure the output directory exists; if it cannot be created, notify the view
+     */
+    private void createOutputDirectory() {
+        try {
+            generation.prepareStorage();
+        } catch (IOException e) {
+            LOG.error("Failed to create output directory", e)
+                    .field("directory", generation.getStore().getDirectory())
+                    .log();
+            view.showError("Could not create output directory: " + e.getMessage());
+            return;
+        }
+        maintainHistory();
+    }
+
+    /**
+     * Copies previously saved post files into the history in the background, then compresses
+     * the older part of the history if it has grown large.
+     * Only files not imported yet are read, so after the first run this is a directory listing.
+     */
+    private void maintainHistory() {
+        SwingWorker<LegacyPostImporter.Result, int[]> worker = new SwingWorker<>() {
+            @Override
+            protected LegacyPostImporter.Result doInBackground() throws IOException {
+                LegacyPostImporter.Result result =
+                        generation.importLegacyPosts((completed, total) -> publish(new int[]{completed, total}));
+                generation.compactHistory();
+                return result;
+            }
+
+            @Override
+            protected void process(List<int[]> chunks) {
+                // Progress is coalesced; only the latest count matters
+                int[] latest = chunks.get(chunks.size() - 1);
+                view.updateStatus("Importing saved posts into history: %d/%d".formatted(latest[0], latest[1]),
+                        Color.BLUE);
+            }
+
+            @Override
+            protected void done() {
+                try {
+                    LegacyPostImporter.Result result = get();
+                    if (result.failed() > 0) {
+                        view.updateStatus("Imported %d saved posts into history, %d could not be read"
+                                .formatted(result.imported(), result.failed()), Color.ORANGE);
+                    } else if (result.imported() > 0) {
+                        view.updateStatus("Imported %d saved posts into history".formatted(result.imported()),
+                                Color.GREEN);
+                    }
+                } catch (Exception e) {
+                    LOG.error("Failed to update post history", e)
+                            .field("phase", "import")
+                            .log();
+                    view.showError("Could not update post history: " + e.getMessage());
+                }
+            }
+        };
+
+        worker.execute();
+    }
+}
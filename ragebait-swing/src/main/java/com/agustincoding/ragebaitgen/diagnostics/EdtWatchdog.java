@@ -0,0 +1,297 @@
+package com.agustincoding.ragebaitgen.diagnostics;
+
+import com.agustincoding.ragebaitgen.logging.Log;
+import com.agustincoding.ragebaitgen.logging.Logger;
+
+import javax.swing.*;
+import java.awt.*;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Detects Event Dispatch Thread stalls.
+ * A monitoring EventQueue records when each event starts dispatching; a background thread checks
+ * it periodically and, while a dispatch runs past the threshold, samples the EDT stack.
+ * Samples are aggregated per frame so the code that blocks the UI can be found from the report.
+ */
+public final class EdtWatchdog {
+
+    private static final Logger LOG = Log.getLogger(EdtWatchdog.class);
+
+    public static final long DEFAULT_THRESHOLD_MS = 200;
+    public static final long DEFAULT_SAMPLE_INTERVAL_MS = 20;
+
+    // How many finished stalls are kept for the report
+    private static final int MAX_RECORDED_STALLS = 50;
+
+    // Frames from our own packages are the ones worth fixing
+    private static final String APPLICATION_PACKAGE = "com.agustincoding.ragebaitgen";
+
+    private static final DateTimeFormatter TIME_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    private static EdtWatchdog installed;
+
+    private final long thresholdNanos;
+    private final long sampleIntervalMillis;
+    private final MonitoringEventQueue queue = new MonitoringEventQueue();
+    private final ScheduledExecutorService sampler;
+
+    // Guarded by this
+    private Stall activeStall;
+    private final Deque<Stall> recentStalls = new ArrayDeque<>();
+    private final Map<String, Integer> applicationFrames = new HashMap<>();
+    private final Map<String, Integer> topFrames = new HashMap<>();
+    private long totalStalls;
+    private long longestStallMillis;
+
+    private EdtWatchdog(long thresholdMillis, long sampleIntervalMillis) {
+        this.thresholdNanos = TimeUnit.MILLISECONDS.toNanos(thresholdMillis);
+        this.sampleIntervalMillis = sampleIntervalMillis;
+        this.sampler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "edt-watchdog");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Installs the watchdog with the default threshold and sampling interval
+     */
+    public static EdtWatchdog install() {
+        return install(DEFAULT_THRESHOLD_MS, DEFAULT_SAMPLE_INTERVAL_MS);
+    }
+
+    /**
+     * Pushes the monitoring event queue and starts sampling. Installing twice returns the existing watchdog.
+     */
+    public static synchronized EdtWatchdog install(long thresholdMillis, long sampleIntervalMillis) {
+        if (installed == null) {
+            EdtWatchdog watchdog = new EdtWatchdog(thresholdMillis, sampleIntervalMillis);
+            Toolkit.getDefaultToolkit().getSystemEventQueue().push(watchdog.queue);
+            watchdog.sampler.scheduleAtFixedRate(watchdog::sample,
+                    sampleIntervalMillis, sampleIntervalMillis, TimeUnit.MILLISECONDS);
+            installed = watchdog;
+        }
+        return installed;
+    }
+
+    public static synchronized EdtWatchdog getInstalled() {
+        return installed;
+    }
+
+    // Runs on the sampler thread
+    private void sample() {
+        long start = queue.dispatchStart;
+        Thread edt = queue.dispatchThread;
+        if (start == 0 || edt == null || queue.waiting) {
+            return;
+        }
+        long elapsed = System.nanoTime() - start;
+        if (elapsed < thresholdNanos) {
+            return;
+        }
+
+        StackTraceElement[] stack = edt.getStackTrace();
+        synchronized (this) {
+            // The EDT may have moved on between reading the start time and taking the sample
+            if (queue.dispatchStart != start) {
+                return;
+            }
+            if (activeStall == null || activeStall.dispatchStart != start) {
+                activeStall = new Stall(start, describe(queue.currentEvent));
+            }
+            activeStall.addSample(stack);
+        }
+    }
+
+    // Runs on the EDT when a dispatch that went over the threshold completes
+    private synchronized void dispatchFinished(long start, long durationNanos, AWTEvent event) {
+        Stall stall = activeStall != null && activeStall.dispatchStart == start
+                ? activeStall
+                : new Stall(start, describe(event));
+        activeStall = null;
+        stall.durationMillis = TimeUnit.NANOSECONDS.toMillis(durationNanos);
+
+        totalStalls++;
+        longestStallMillis = Math.max(longestStallMillis, stall.durationMillis);
+        for (StackTraceElement[] stack : stall.samples) {
+            if (stack.length > 0) {
+                topFrames.merge(stack[0].toString(), 1, Integer::sum);
+            }
+            StackTraceElement applicationFrame = firstApplicationFrame(stack);
+            if (applicationFrame != null) {
+                applicationFrames.merge(applicationFrame.toString(), 1, Integer::sum);
+            }
+        }
+
+        recentStalls.addFirst(stall);
+        if (recentStalls.size() > MAX_RECORDED_STALLS) {
+            recentStalls.removeLast();
+        }
+
+        LOG.warn("EDT stall")
+                .field("durationMs", stall.durationMillis)
+                .field("event", stall.event)
+                .field("samples", stall.samples.size())
+                .log();
+    }
+
+    // Only called once a dispatch is known to be slow, so ordinary events allocate nothing
+    private static String describe(AWTEvent event) {
+        if (event == null) {
+            return "unknown event";
+        }
+        Object source = event.getSource();
+        String sourceName = source == null ? "null" : source.getClass().getName();
+        return event.getClass().getSimpleName() + " from " + sourceName;
+    }
+
+    private static StackTraceElement firstApplicationFrame(StackTraceElement[] stack) {
+        for (StackTraceElement frame : stack) {
+            if (frame.getClassName().startsWith(APPLICATION_PACKAGE)
+                    && !frame.getClassName().startsWith(EdtWatchdog.class.getName())) {
+                return frame;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Builds a plain text report of the recorded stalls and the hottest frames
+     */
+    public synchronized String buildReport() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("EDT STALL REPORT\n");
+        sb.append("Threshold: ").append(TimeUnit.NANOSECONDS.toMillis(thresholdNanos)).append(" ms, ");
+        sb.append("sample interval: ").append(sampleIntervalMillis).append(" ms\n");
+        sb.append("Stalls recorded: ").append(totalStalls);
+        sb.append(" (longest ").append(longestStallMillis).append(" ms)\n");
+
+        appendHottest(sb, "Hottest application frames", applicationFrames);
+        appendHottest(sb, "Hottest top frames", topFrames);
+
+        sb.append("\nRecent stalls:\n");
+        if (recentStalls.isEmpty()) {
+            sb.append("  none\n");
+        }
+        for (Stall stall : recentStalls) {
+            sb.append("  ").append(stall.startedAt.format(TIME_FORMAT))
+                    .append("  ").append(stall.durationMillis).append(" ms  ")
+                    .append(stall.event)
+                    .append("  samples=").append(stall.samples.size()).append("\n");
+            if (!stall.samples.isEmpty()) {
+                // The last sample is closest to what finally released the EDT
+                StackTraceElement[] stack = stall.samples.get(stall.samples.size() - 1);
+                for (int i = 0; i < Math.min(8, stack.length); i++) {
+                    sb.append("      at ").append(stack[i]).append("\n");
+                }
+            }
+        }
+        return sb.toString();
+    }
+
+    private static void appendHottest(StringBuilder sb, String title, Map<String, Integer> counts) {
+        sb.append("\n").append(title).append(" (samples):\n");
+        if (counts.isEmpty()) {
+            sb.append("  none\n");
+            return;
+        }
+        counts.entrySet().stream()
+                .sorted(Map.Entry.<String, Integer>comparingByValue().reversed())
+                .limit(15)
+                .forEach(e -> sb.append("  %6d  %s%n".formatted(e.getValue(), e.getKey())));
+    }
+
+    public synchronized void clear() {
+        recentStalls.clear();
+        applicationFrames.clear();
+        topFrames.clear();
+        totalStalls = 0;
+        longestStallMillis = 0;
+    }
+
+    /**
+     * Shows the current report in a dialog
+     */
+    public void showReport(Component parent) {
+        JTextArea area = new JTextArea(buildReport(), 25, 100);
+        area.setEditable(false);
+        area.setFont(new Font(Font.MONOSPACED, Font.PLAIN, 12));
+        area.setCaretPosition(0);
+        JOptionPane.showMessageDialog(parent, new JScrollPane(area),
+                "EDT Stall Report", JOptionPane.INFORMATION_MESSAGE);
+    }
+
+    // A single dispatch that went over the threshold
+    private static final class Stall {
+        private final long dispatchStart;
+        private final String event;
+        private final LocalDateTime startedAt = LocalDateTime.now();
+        private final List<StackTraceElement[]> samples = new ArrayList<>();
+        private long durationMillis;
+
+        private Stall(long dispatchStart, String event) {
+            this.dispatchStart = dispatchStart;
+            this.event = event;
+        }
+
+        private void addSample(StackTraceElement[] stack) {
+            samples.add(stack);
+        }
+    }
+
+    /**
+     * Event queue that publishes when the current dispatch started
+     */
+    private final class MonitoringEventQueue extends EventQueue {
+        private volatile long dispatchStart;
+        private volatile Thread dispatchThread;
+        private volatile AWTEvent currentEvent;
+        // True while the EDT is blocked waiting for the next event (e.g. inside a modal dialog loop)
+        private volatile boolean waiting;
+        private long dispatchCount;
+
+        @Override
+        public AWTEvent getNextEvent() throws InterruptedException {
+            waiting = true;
+            try {
+                return super.getNextEvent();
+            } finally {
+                waiting = false;
+            }
+        }
+
+        @Override
+        protected void dispatchEvent(AWTEvent event) {
+            long previousStart = dispatchStart;
+            AWTEvent previousEvent = currentEvent;
+            long countBefore = ++dispatchCount;
+            long start = System.nanoTime();
+
+            dispatchThread = Thread.currentThread();
+            currentEvent = event;
+            dispatchStart = start;
+            try {
+                super.dispatchEvent(event);
+            } finally {
+                long duration = System.nanoTime() - start;
+                // A nested dispatch means this event ran a secondary loop (modal dialog): its length is user time
+                boolean nested = dispatchCount != countBefore;
+                if (duration >= thresholdNanos && !nested) {
+                    dispatchFinished(start, duration, event);
+                }
+                dispatchStart = previousStart;
+                currentEvent = previousEvent;
+            }
+        }
+    }
+}
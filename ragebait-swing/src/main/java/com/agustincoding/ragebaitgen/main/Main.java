@@ -0,0 +1,124 @@
+package com.agustincoding.ragebaitgen.main;
+
+import com.agustincoding.ragebaitgen.controller.PostGeneratorController;
+import com.agustincoding.ragebaitgen.diagnostics.EdtWatchdog;
+import com.agustincoding.ragebaitgen.logging.Log;
+import com.agustincoding.ragebaitgen.logging.Logger;
+import com.agustincoding.ragebaitgen.view.PostGeneratorView;
+
+import javax.swing.*;
+import java.awt.GraphicsEnvironment;
+import java.awt.event.WindowAdapter;
+import java.awt.event.WindowEvent;
+
+public class Main {
+
+    private static final Logger LOG = Log.getLogger(Main.class);
+
+    // Set by the appcds Maven profile: exit once startup is complete so the JVM can dump the class archive
+    private static final String CDS_TRAINING_PROPERTY = "ragebait.cds.training";
+
+    // Logs the render cache statistics (repaint count and cost) when the window closes
+    private static final String RENDER_STATS_PROPERTY = "ragebait.render.stats";
+
+    // EDT stall watchdog: on by default, threshold in milliseconds
+    private static final String WATCHDOG_PROPERTY = "ragebait.edt.watchdog";
+    private static final String WATCHDOG_THRESHOLD_PROPERTY = "ragebait.edt.thresholdMs";
+
+    public static void main(String[] args) {
+        StartupTimer.mark("main");
+        LOG.info("Session started")
+                .field("javaVersion", System.getProperty("java.version"))
+                .field("os", System.getProperty("os.name"))
+                .log();
+
+        if (Boolean.getBoolean(CDS_TRAINING_PROPERTY) && GraphicsEnvironment.isHeadless()) {
+            trainHeadless();
+            return;
+        }
+
+        SwingUtilities.invokeLater(() -> {
+            try {
+
+                PostGeneratorView view = new PostGeneratorView();
+                StartupTimer.mark("view constructed");
+
+                // Once the skeleton window is on screen, build the secondary panels on the next EDT turn
+                view.onFirstFrame(() -> {
+                    StartupTimer.mark("first frame");
+                    SwingUtilities.invokeLater(() -> {
+                        view.completeDeferredLayout();
+                        StartupTimer.mark("deferred panels");
+                        installWatchdog(view);
+                        reportStartup(view);
+                    });
+                });
+
+                view.addWindowListener(new WindowAdapter() {
+                    @Override
+                    public void windowClosing(WindowEvent e) {
+                        if (Boolean.getBoolean(RENDER_STATS_PROPERTY)) {
+                            LOG.info("Render cache statistics")
+                                    .field("stats", PostGeneratorView.describeRenderStats())
+                                    .log();
+                        }
+                        LOG.info("Session ended").log();
+                    }
+                });
+
+                new PostGeneratorController(view);
+
+                view.setVisible(true);
+
+            } catch (Exception e) {
+                LOG.error("Error loading application", e).field("phase", "startup").log();
+                JOptionPane.showMessageDialog(
+                        null,
+                        "Error loading application: " + e.getMessage(),
+                        "Error",
+                        JOptionPane.ERROR_MESSAGE
+                );
+            }
+        });
+    }
+
+    /**
+     * Installs the EDT stall watchdog once startup is done; its report opens with Ctrl+Shift+D
+     */
+    private static void installWatchdog(PostGeneratorView view) {
+        if (!Boolean.parseBoolean(System.getProperty(WATCHDOG_PROPERTY, "true"))) {
+            return;
+        }
+        EdtWatchdog watchdog = EdtWatchdog.install(
+                Long.getLong(WATCHDOG_THRESHOLD_PROPERTY, EdtWatchdog.DEFAULT_THRESHOLD_MS),
+                EdtWatchdog.DEFAULT_SAMPLE_INTERVAL_MS);
+        view.addDiagnosticsShortcut(() -> watchdog.showReport(view));
+    }
+
+    /**
+     * CDS training without a display: the window cannot be opened, so only the main application classes
+     * (and the Swing classes they extend) are loaded before exiting, instead of failing the build
+     */
+    private static void trainHeadless() {
+        Class<?>[] classes = {PostGeneratorView.class, PostGeneratorController.class, EdtWatchdog.class};
+        LOG.warn("No display for the CDS training run, archiving the application classes only")
+                .field("phase", "startup")
+                .field("classes", classes.length)
+                .log();
+        Log.shutdown();
+        System.exit(0);
+    }
+
+    private static void reportStartup(PostGeneratorView view) {
+        LOG.info("Startup complete")
+                .field("phase", "startup")
+                .field("firstFrameMs", StartupTimer.elapsed("first frame"))
+                .field("milestones", StartupTimer.summary())
+                .log();
+
+        if (Boolean.getBoolean(CDS_TRAINING_PROPERTY)) {
+            view.dispose();
+            System.exit(0);
+        }
+    }
+}
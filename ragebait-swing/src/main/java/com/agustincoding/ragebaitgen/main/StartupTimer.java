@@ -0,0 +1,49 @@
+package com.agustincoding.ragebaitgen.main;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Records startup milestones relative to the JVM process start
+ * so time-to-first-frame can be reported on every launch.
+ */
+final class StartupTimer {
+
+    // Falls back to the moment this class was loaded if the OS does not expose the start time
+    private static final Instant PROCESS_START = ProcessHandle.current().info()
+            .startInstant()
+            .orElseGet(Instant::now);
+
+    private static final Map<String, Long> MILESTONES = new LinkedHashMap<>();
+
+    private StartupTimer() {
+        // Utility class
+    }
+
+    /**
+     * Records a named milestone, in milliseconds since the process started
+     */
+    static synchronized void mark(String milestone) {
+        MILESTONES.put(milestone, Duration.between(PROCESS_START, Instant.now()).toMillis());
+    }
+
+    static synchronized long elapsed(String milestone) {
+        return MILESTONES.getOrDefault(milestone, -1L);
+    }
+
+    /**
+     * Builds a single-line summary, e.g. "main=85ms, view constructed=240ms, first frame=310ms"
+     */
+    static synchronized String summary() {
+        StringBuilder sb = new StringBuilder();
+        for (Map.Entry<String, Long> entry : MILESTONES.entrySet()) {
+            if (!sb.isEmpty()) {
+                sb.append(", ");
+            }
+            sb.append(entry.getKey()).append('=').append(entry.getValue()).append("ms");
+        }
+        return sb.toString();
+    }
+}
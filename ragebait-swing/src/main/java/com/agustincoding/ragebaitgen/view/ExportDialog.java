@@ -0,0 +1,93 @@
+package com.agustincoding.ragebaitgen.view;
+
+import com.agustincoding.ragebaitgen.export.ExportFilter;
+import com.agustincoding.ragebaitgen.export.ExportFormat;
+
+import javax.swing.*;
+import javax.swing.filechooser.FileNameExtensionFilter;
+import java.awt.*;
+import java.io.File;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.format.DateTimeParseException;
+
+/**
+ * Asks for the export format, filters and target file
+ */
+public final class ExportDialog {
+
+    /**
+     * What the user picked; see ExportFilter for how the criteria match
+     */
+    public record Options(ExportFilter filter, ExportFormat format, Path target) {
+    }
+
+    private ExportDialog() {
+        // Utility class
+    }
+
+    /**
+     * Shows the dialog on the EDT
+     * @return the chosen options, or null when the user cancelled
+     */
+    public static Options show(Component parent) {
+        JComboBox<ExportFormat> formatBox = new JComboBox<>(ExportFormat.values());
+        JTextField fromField = new JTextField(10);
+        JTextField toField = new JTextField(10);
+        JTextField subredditField = new JTextField(20);
+        JTextField topicField = new JTextField(20);
+
+        JPanel panel = new JPanel(new GridLayout(0, 2, 8, 6));
+        panel.add(new JLabel("Format:"));
+        panel.add(formatBox);
+        panel.add(new JLabel("From (yyyy-MM-dd, optional):"));
+        panel.add(fromField);
+        panel.add(new JLabel("To (yyyy-MM-dd, inclusive, optional):"));
+        panel.add(toField);
+        panel.add(new JLabel("Subreddit (optional):"));
+        panel.add(subredditField);
+        panel.add(new JLabel("Topic contains (optional):"));
+        panel.add(topicField);
+
+        ExportFilter filter = null;
+        while (filter == null) {
+            int choice = JOptionPane.showConfirmDialog(parent, panel, "Export History",
+                    JOptionPane.OK_CANCEL_OPTION, JOptionPane.PLAIN_MESSAGE);
+            if (choice != JOptionPane.OK_OPTION) {
+                return null;
+            }
+            try {
+                filter = new ExportFilter(
+                        startOfDay(fromField.getText(), 0),
+                        startOfDay(toField.getText(), 1),
+                        subredditField.getText(),
+                        topicField.getText());
+            } catch (DateTimeParseException e) {
+                JOptionPane.showMessageDialog(parent, "Dates must use the yyyy-MM-dd format",
+                        "Export History", JOptionPane.WARNING_MESSAGE);
+            } catch (IllegalArgumentException e) {
+                JOptionPane.showMessageDialog(parent, e.getMessage(), "Export History", JOptionPane.WARNING_MESSAGE);
+            }
+        }
+
+        ExportFormat format = (ExportFormat) formatBox.getSelectedItem();
+        JFileChooser chooser = new JFileChooser();
+        chooser.setDialogTitle("Export History");
+        chooser.setFileFilter(new FileNameExtensionFilter(format.name() + " files", format.getExtension()));
+        chooser.setSelectedFile(new File("ragebait_history." + format.getExtension()));
+        if (chooser.showSaveDialog(parent) != JFileChooser.APPROVE_OPTION) {
+            return null;
+        }
+        return new Options(filter, format, chooser.getSelectedFile().toPath());
+    }
+
+    // Blank means no bound; dayOffset 1 turns an inclusive end date into an exclusive instant
+    private static Instant startOfDay(String text, int dayOffset) {
+        if (text.isBlank()) {
+            return null;
+        }
+        return LocalDate.parse(text.trim()).plusDays(dayOffset).atStartOfDay(ZoneId.systemDefault()).toInstant();
+    }
+}
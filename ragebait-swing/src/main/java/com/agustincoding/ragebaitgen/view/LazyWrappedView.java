@@ -0,0 +1,330 @@
+package com.agustincoding.ragebaitgen.view;
+
+import javax.swing.event.DocumentEvent;
+import javax.swing.text.*;
+import java.awt.*;
+import java.awt.geom.Rectangle2D;
+
+/**
+ * WrappedPlainView that only computes line breaks for the paragraphs it has to show.
+ *
+ * WrappedPlainView breaks every paragraph into lines to answer its preferred height, so a long
+ * text is fully measured on load and again on every width change. Here a paragraph that has not
+ * been painted or queried reports an estimate (its length times the average character width,
+ * divided by the width) and is broken into lines the first time it is painted or a position in it
+ * is looked up; a width change only drops the measurements. When a measured height differs from
+ * the estimate the paragraph asks for a new layout, so the scroll extent converges as the user scrolls.
+ * Painting skips the lines of a paragraph that fall outside the clip.
+ *
+ * Breaking, tab expansion and selection colors come from WrappedPlainView.
+ */
+class LazyWrappedView extends WrappedPlainView {
+
+    // Mixed-case sample for the average character width used by estimates
+    private static final String WIDTH_SAMPLE = "The quick brown fox jumps over the lazy dog, again. ";
+
+    private Font sampledFont;
+    private FontMetrics fontMetrics;
+    private float averageCharWidth;
+
+    LazyWrappedView(Element elem, boolean wordWrap) {
+        super(elem, wordWrap);
+    }
+
+    @Override
+    protected void loadChildren(ViewFactory f) {
+        Element e = getElement();
+        int n = e.getElementCount();
+        if (n > 0) {
+            View[] added = new View[n];
+            for (int i = 0; i < n; i++) {
+                added[i] = new LazyLine(e.getElement(i));
+            }
+            replace(0, 0, added);
+        }
+    }
+
+    @Override
+    public void insertUpdate(DocumentEvent e, Shape a, ViewFactory f) {
+        updateChildren(e, a);
+        forwardToLine(e, a, f, true);
+    }
+
+    @Override
+    public void removeUpdate(DocumentEvent e, Shape a, ViewFactory f) {
+        updateChildren(e, a);
+        forwardToLine(e, a, f, false);
+    }
+
+    @Override
+    public void changedUpdate(DocumentEvent e, Shape a, ViewFactory f) {
+        updateChildren(e, a);
+    }
+
+    // Splices line views in and out to match the paragraphs added and removed by the edit
+    private void updateChildren(DocumentEvent e, Shape a) {
+        DocumentEvent.ElementChange ec = e.getChange(getElement());
+        if (ec == null) {
+            return;
+        }
+        Element[] addedElems = ec.getChildrenAdded();
+        View[] added = new View[addedElems.length];
+        for (int i = 0; i < addedElems.length; i++) {
+            added[i] = new LazyLine(addedElems[i]);
+        }
+        replace(ec.getIndex(), ec.getChildrenRemoved().length, added);
+        if (a != null) {
+            preferenceChanged(null, true, true);
+            getContainer().repaint();
+        }
+    }
+
+    private void forwardToLine(DocumentEvent e, Shape a, ViewFactory f, boolean insert) {
+        Rectangle alloc = a != null && isAllocationValid() ? getInsideAllocation(a) : null;
+        View v = getViewAtPosition(e.getOffset(), alloc);
+        if (v == null) {
+            return;
+        }
+        if (insert) {
+            v.insertUpdate(e, alloc, f);
+        } else {
+            v.removeUpdate(e, alloc, f);
+        }
+    }
+
+    private FontMetrics lineMetrics() {
+        Component host = getContainer();
+        Font font = host.getFont();
+        if (!font.equals(sampledFont)) {
+            sampledFont = font;
+            fontMetrics = host.getFontMetrics(font);
+            averageCharWidth = fontMetrics.stringWidth(WIDTH_SAMPLE) / (float) WIDTH_SAMPLE.length();
+        }
+        return fontMetrics;
+    }
+
+    /**
+     * One paragraph. lineEnds[0..lineCount) are the ends of its lines relative to the paragraph
+     * start; complete is set once they reach the end of the paragraph at measuredWidth.
+     * An edit keeps the lines before it, so re-breaking resumes near the edit.
+     */
+    private final class LazyLine extends View {
+        private int[] lineEnds = new int[1];
+        private int lineCount;
+        private boolean complete;
+        private int measuredWidth = -1;
+        private float reportedHeight = -1;
+
+        LazyLine(Element elem) {
+            super(elem);
+        }
+
+        @Override
+        public float getPreferredSpan(int axis) {
+            switch (axis) {
+                case View.X_AXIS -> {
+                    float width = getWidth();
+                    // Set to MAX_VALUE before the first layout; not a useful preference
+                    return width == Integer.MAX_VALUE ? 100f : width;
+                }
+                case View.Y_AXIS -> {
+                    reportedHeight = currentHeight();
+                    return reportedHeight;
+                }
+                default -> throw new IllegalArgumentException("Invalid axis: " + axis);
+            }
+        }
+
+        private float currentHeight() {
+            int lines = isMeasured() ? lineCount : estimatedLines();
+            return lines * lineMetrics().getHeight();
+        }
+
+        private boolean isMeasured() {
+            return complete && measuredWidth == getWidth();
+        }
+
+        private int estimatedLines() {
+            int chars = getEndOffset() - getStartOffset() - 1;
+            int width = getWidth();
+            lineMetrics();
+            if (chars <= 0 || width <= 0 || width == Integer.MAX_VALUE) {
+                return 1;
+            }
+            return Math.max(1, (int) Math.ceil(chars * averageCharWidth / width));
+        }
+
+        // Breaks the rest of the paragraph into lines; asks for a new layout if that changed its height
+        private void measure() {
+            int width = getWidth();
+            if (measuredWidth != width) {
+                measuredWidth = width;
+                lineCount = 0;
+                complete = false;
+            }
+            if (complete) {
+                return;
+            }
+            int start = getStartOffset();
+            int end = getEndOffset();
+            int p0 = lineCount == 0 ? start : start + lineEnds[lineCount - 1];
+            while (p0 < end) {
+                int p = calculateBreakPosition(p0, end);
+                p0 = p == p0 ? p + 1 : p;
+                if (lineCount == lineEnds.length) {
+                    int[] grown = new int[lineEnds.length * 2];
+                    System.arraycopy(lineEnds, 0, grown, 0, lineCount);
+                    lineEnds = grown;
+                }
+                lineEnds[lineCount++] = p0 - start;
+            }
+            complete = true;
+
+            if (reportedHeight >= 0 && currentHeight() != reportedHeight) {
+                LazyWrappedView.this.preferenceChanged(this, false, true);
+                getContainer().repaint();
+            }
+        }
+
+        @Override
+        public void paint(Graphics g, Shape a) {
+            measure();
+            Rectangle alloc = a.getBounds();
+            FontMetrics metrics = lineMetrics();
+            int lineHeight = metrics.getHeight();
+
+            // Only the lines inside the clip are drawn
+            int first = 0;
+            int last = lineCount - 1;
+            Rectangle clip = g.getClipBounds();
+            if (clip != null && lineHeight > 0) {
+                first = Math.max(0, (clip.y - alloc.y) / lineHeight);
+                last = Math.min(last, (clip.y + clip.height - alloc.y) / lineHeight);
+            }
+
+            JTextComponent host = (JTextComponent) getContainer();
+            LayeredHighlighter highlighter = host.getHighlighter() instanceof LayeredHighlighter layered ? layered : null;
+            int start = getStartOffset();
+            int end = getEndOffset();
+            int p0 = first == 0 ? start : start + lineEnds[first - 1];
+            float y = alloc.y + metrics.getAscent() + (float) first * lineHeight;
+            for (int i = first; i <= last; i++) {
+                int p1 = start + lineEnds[i];
+                if (highlighter != null) {
+                    highlighter.paintLayeredHighlights(g, p0, p1 == end ? p1 - 1 : p1, a, host, this);
+                }
+                drawLine(p0, p1, (Graphics2D) g, alloc.x, y);
+                p0 = p1;
+                y += lineHeight;
+            }
+        }
+
+        @Override
+        public Shape modelToView(int pos, Shape a, Position.Bias b) throws BadLocationException {
+            int p0 = getStartOffset();
+            if (pos < p0 || pos > getEndOffset()) {
+                throw new BadLocationException("Position out of range", pos);
+            }
+            measure();
+            Rectangle alloc = a.getBounds();
+            alloc.height = lineMetrics().getHeight();
+            alloc.width = 1;
+
+            int testPosition = b == Position.Bias.Forward ? pos : Math.max(p0, pos - 1);
+            int line = findLine(testPosition - p0);
+            if (line > 0) {
+                p0 += lineEnds[line - 1];
+            }
+            alloc.y += alloc.height * line;
+
+            if (pos > p0) {
+                Segment segment = new Segment();
+                getDocument().getText(p0, pos - p0, segment);
+                float x = alloc.x + Utilities.getTabbedTextWidth(segment, lineMetrics(), (float) alloc.x,
+                        LazyWrappedView.this, p0);
+                return new Rectangle2D.Float(x, alloc.y, alloc.width, alloc.height);
+            }
+            return alloc;
+        }
+
+        @Override
+        public int viewToModel(float fx, float fy, Shape a, Position.Bias[] bias) {
+            bias[0] = Position.Bias.Forward;
+            measure();
+            Rectangle alloc = a.getBounds();
+            if (fy < alloc.y) {
+                return getStartOffset();
+            }
+            if (fy > alloc.y + alloc.height) {
+                return getEndOffset() - 1;
+            }
+            int lineHeight = lineMetrics().getHeight();
+            int line = lineHeight > 0 ? (int) (fy - alloc.y) / lineHeight : lineCount - 1;
+            if (line >= lineCount) {
+                return getEndOffset() - 1;
+            }
+            int start = getStartOffset();
+            int p0 = line == 0 ? start : start + lineEnds[line - 1];
+            int p1 = start + lineEnds[line];
+            if (fx < alloc.x) {
+                return p0;
+            }
+            if (fx > alloc.x + alloc.width) {
+                return p1 - 1;
+            }
+            Segment segment = new Segment();
+            try {
+                getDocument().getText(p0, p1 - p0, segment);
+            } catch (BadLocationException e) {
+                throw new IllegalStateException(e);
+            }
+            int n = Utilities.getTabbedTextOffset(segment, lineMetrics(), (float) alloc.x, fx,
+                    LazyWrappedView.this, p0, false);
+            return Math.min(p0 + n, p1 - 1);
+        }
+
+        @Override
+        public void insertUpdate(DocumentEvent e, Shape a, ViewFactory f) {
+            update(e, a);
+        }
+
+        @Override
+        public void removeUpdate(DocumentEvent e, Shape a, ViewFactory f) {
+            update(e, a);
+        }
+
+        // Keeps the lines before the edit (minus one, which a word wrap may pull back) and
+        // re-breaks the rest right away only when the paragraph is on screen
+        private void update(DocumentEvent e, Shape a) {
+            if (lineCount > 0) {
+                int line = findLine(e.getOffset() - getStartOffset());
+                lineCount = Math.min(lineCount, Math.max(0, line - 1));
+            }
+            complete = false;
+
+            JTextComponent host = (JTextComponent) getContainer();
+            Rectangle alloc = a != null ? a.getBounds() : null;
+            if (alloc != null && host.getVisibleRect().intersects(alloc)) {
+                measure();
+                host.repaint(alloc.x, alloc.y, alloc.width, alloc.height);
+            } else if (reportedHeight >= 0 && currentHeight() != reportedHeight) {
+                LazyWrappedView.this.preferenceChanged(this, false, true);
+            }
+        }
+
+        // Index of the line holding the offset relative to the paragraph start
+        private int findLine(int offset) {
+            int low = 0;
+            int high = lineCount - 1;
+            while (low <= high) {
+                int middle = (low + high) >>> 1;
+                if (lineEnds[middle] <= offset) {
+                    low = middle + 1;
+                } else {
+                    high = middle - 1;
+                }
+            }
+            return Math.min(low, Math.max(0, lineCount - 1));
+        }
+    }
+}
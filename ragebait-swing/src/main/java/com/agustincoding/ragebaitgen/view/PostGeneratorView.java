@@ -0,0 +1,788 @@
+package com.agustincoding.ragebaitgen.view;
+
+import com.agustincoding.ragebaitgen.model.Post.*;
+import javax.swing.*;
+import javax.swing.border.*;
+import javax.swing.event.DocumentEvent;
+import javax.swing.event.DocumentListener;
+import java.awt.*;
+import java.awt.event.ActionEvent;
+import java.awt.event.ActionListener;
+import java.awt.event.InputEvent;
+import java.awt.event.KeyEvent;
+import java.util.List;
+
+/**
+ * Enhanced GUI view for the Reddit Ragebait Post Generator
+ * Provides a modern and user-friendly interface for generating ragebait posts
+ */
+public class PostGeneratorView extends JFrame {
+
+    // Input components
+    private JTextField subredditNameField;
+    private JTextArea subredditDescriptionArea;
+    private JTextArea limitationsArea;
+    private JTextField topicField;
+
+    // Generated content display
+    private StreamingTextArea generatedTitleArea;
+    private StreamingTextArea generatedContentArea;
+
+    // Action buttons
+    private JButton generatePostButton;
+    private JButton clearFormButton;
+    private JButton exportHistoryButton;
+    private JButton archivePostsButton;
+    private JButton copyTitleButton;
+    private JButton copyContentButton;
+
+    // Status components
+    private JLabel statusLabel;
+    private JProgressBar progressBar;
+    private JLabel promptSizeLabel;
+
+    // Set while the view fills the form itself; edit listeners ignore those changes
+    private boolean fillingForm;
+
+    // The output card is painted empty on the first frame and filled in afterwards
+    private JPanel outputPanel;
+    private boolean outputPanelBuilt;
+
+    // One-shot callback fired after the first frame has been painted
+    private Runnable firstFrameCallback;
+
+    public PostGeneratorView() {
+        initializeComponents();
+        setupLayout();
+        setupEventHandlers();
+        setDefaultValues();
+        applyModernStyling();
+    }
+
+    private void initializeComponents() {
+        // Input components
+        subredditNameField = createStyledTextField(30);
+        subredditDescriptionArea = createStyledTextArea(3, 50);
+        limitationsArea = createStyledTextArea(3, 50);
+        topicField = createStyledTextField(50);
+
+        // Action buttons (the output area and copy buttons are built in completeDeferredLayout)
+        generatePostButton = createPrimaryButton("Generate Ragebait Post", 200, 40);
+        clearFormButton = createSecondaryButton("Clear All", 120, 35);
+        exportHistoryButton = createSecondaryButton("Export History", 140, 35);
+        archivePostsButton = createSecondaryButton("Archive Posts", 140, 35);
+
+        // Status components
+        statusLabel = new JLabel("Ready to generate posts");
+        statusLabel.setForeground(UiTheme.SUCCESS);
+        progressBar = new JProgressBar();
+        progressBar.setVisible(false);
+        promptSizeLabel = new JLabel();
+        promptSizeLabel.setForeground(Color.GRAY);
+
+        // Customize progress bar
+        progressBar.setForeground(UiTheme.PRIMARY);
+        progressBar.setBackground(UiTheme.PROGRESS_TRACK);
+    }
+
+    private JTextField createStyledTextField(int columns) {
+        JTextField field = new JTextField(columns) {
+            @Override
+            protected void paintComponent(Graphics g) {
+                if (!isOpaque() && getBorder() instanceof RoundedBorder) {
+                    paintRoundedBackground(g, this, 15);
+                }
+                super.paintComponent(g);
+            }
+        };
+        field.setOpaque(false);
+        field.setBackground(UiTheme.FIELD_BACKGROUND);
+        field.setBorder(new RoundedBorder(15, UiTheme.FIELD_BORDER));
+        field.setFont(UiTheme.PLAIN_14);
+        return field;
+    }
+
+    private JTextArea createStyledTextArea(int rows, int columns) {
+        JTextArea area = new JTextArea(rows, columns) {
+            @Override
+            protected void paintComponent(Graphics g) {
+                if (!isOpaque() && getBorder() instanceof RoundedBorder) {
+                    paintRoundedBackground(g, this, 15);
+                }
+                super.paintComponent(g);
+            }
+        };
+        area.setWrapStyleWord(true);
+        area.setLineWrap(true);
+        area.setOpaque(false);
+        area.setBackground(UiTheme.FIELD_BACKGROUND);
+        area.setBorder(new RoundedBorder(15, UiTheme.FIELD_BORDER));
+        area.setFont(UiTheme.PLAIN_14);
+        return area;
+    }
+
+    private StreamingTextArea createOutputTextArea(int rows, int columns, int initialCapacity) {
+        StreamingTextArea area = new StreamingTextArea(rows, columns, initialCapacity) {
+            @Override
+            protected void paintComponent(Graphics g) {
+                paintRoundedBackground(g, this, 10);
+                super.paintComponent(g);
+            }
+        };
+        area.setWrapStyleWord(true);
+        area.setLineWrap(true);
+        area.setEditable(false);
+        area.setOpaque(false);
+        area.setBackground(UiTheme.FIELD_BACKGROUND);
+        area.setBorder(new RoundedBorder(10, UiTheme.OUTPUT_BORDER));
+        area.setFont(UiTheme.PLAIN_14);
+        return area;
+    }
+
+    /**
+     * Paints the rounded background of a text component from the render cache
+     */
+    private static void paintRoundedBackground(Graphics g, JComponent component, int arc) {
+        Color background = component.getBackground();
+        RenderCache.SHARED.paint(g, "text-background", List.of(background, arc),
+                component.getWidth(), component.getHeight(), (g2, w, h) -> {
+                    g2.setColor(background);
+                    g2.fillRoundRect(0, 0, w - 1, h - 1, arc, arc);
+                });
+    }
+
+    private JButton createPrimaryButton(String text, int width, int height) {
+        JButton button = new JButton(text) {
+            @Override
+            protected void paintComponent(Graphics g) {
+                Color fill = switch (ButtonState.of(getModel())) {
+                    case PRESSED -> UiTheme.PRIMARY_PRESSED;
+                    case ROLLOVER -> UiTheme.PRIMARY_ROLLOVER;
+                    case NORMAL -> UiTheme.PRIMARY;
+                };
+                String label = getText();
+                Font font = getFont();
+                RenderCache.SHARED.paint(g, "primary-button", List.of(label, font, fill),
+                        getWidth(), getHeight(), (g2, w, h) -> {
+                            g2.setColor(fill);
+                            g2.fillRoundRect(0, 0, w, h, 25, 25);
+                            g2.setColor(Color.WHITE);
+                            drawCenteredText(g2, label, font, w, h);
+                        });
+            }
+        };
+        button.setPreferredSize(new Dimension(width, height));
+        button.setOpaque(false);
+        button.setBorderPainted(false);
+        button.setContentAreaFilled(false);
+        button.setFocusPainted(false);
+        button.setFont(UiTheme.BOLD_14);
+        button.setForeground(Color.WHITE);
+        return button;
+    }
+
+    private JButton createSecondaryButton(String text, int width, int height) {
+        JButton button = new JButton(text) {
+            @Override
+            protected void paintComponent(Graphics g) {
+                Color fill = switch (ButtonState.of(getModel())) {
+                    case PRESSED -> UiTheme.SECONDARY_BUTTON_PRESSED;
+                    case ROLLOVER -> UiTheme.SECONDARY_BUTTON_ROLLOVER;
+                    case NORMAL -> UiTheme.SECONDARY_BUTTON;
+                };
+                String label = getText();
+                Font font = getFont();
+                RenderCache.SHARED.paint(g, "secondary-button", List.of(label, font, fill),
+                        getWidth(), getHeight(), (g2, w, h) -> {
+                            g2.setColor(fill);
+                            g2.fillRoundRect(0, 0, w, h, 20, 20);
+                            g2.setColor(UiTheme.SECONDARY);
+                            g2.drawRoundRect(0, 0, w - 1, h - 1, 20, 20);
+                            drawCenteredText(g2, label, font, w, h);
+                        });
+            }
+        };
+        button.setPreferredSize(new Dimension(width, height));
+        button.setOpaque(false);
+        button.setBorderPainted(false);
+        button.setContentAreaFilled(false);
+        button.setFocusPainted(false);
+        button.setFont(UiTheme.BOLD_12);
+        button.setForeground(UiTheme.SECONDARY);
+        return button;
+    }
+
+    private JButton createTertiaryButton(String text, int width, int height) {
+        JButton button = new JButton(text) {
+            @Override
+            protected void paintComponent(Graphics g) {
+                Color fill = switch (ButtonState.of(getModel())) {
+                    case PRESSED -> UiTheme.TERTIARY_BUTTON_PRESSED;
+                    case ROLLOVER -> UiTheme.TERTIARY_BUTTON_ROLLOVER;
+                    case NORMAL -> UiTheme.TERTIARY_BUTTON;
+                };
+                String label = getText();
+                Font font = getFont();
+                RenderCache.SHARED.paint(g, "tertiary-button", List.of(label, font, fill),
+                        getWidth(), getHeight(), (g2, w, h) -> {
+                            g2.setColor(fill);
+                            g2.fillRoundRect(0, 0, w, h, 15, 15);
+                            g2.setColor(UiTheme.ACCENT);
+                            drawCenteredText(g2, label, font, w, h);
+                        });
+            }
+        };
+        button.setPreferredSize(new Dimension(width, height));
+        button.setOpaque(false);
+        button.setBorderPainted(false);
+        button.setContentAreaFilled(false);
+        button.setFocusPainted(false);
+        button.setFont(UiTheme.PLAIN_12);
+        button.setForeground(UiTheme.ACCENT);
+        return button;
+    }
+
+    // Only runs when a button look is rendered into the cache, not on every repaint
+    private static void drawCenteredText(Graphics2D g2, String text, Font font, int width, int height) {
+        g2.setFont(font);
+        FontMetrics fm = g2.getFontMetrics();
+        int x = (width - fm.stringWidth(text)) / 2;
+        int y = (height - fm.getHeight()) / 2 + fm.getAscent();
+        g2.drawString(text, x, y);
+    }
+
+    /**
+     * Public accessor for the repaint statistics of the shared render cache
+     */
+    public static String describeRenderStats() {
+        return RenderCache.SHARED.describeStats();
+    }
+
+    private void setupLayout() {
+        setTitle("Reddit Ragebait Post Generator - Modern Edition");
+        setDefaultCloseOperation(JFrame.EXIT_ON_CLOSE);
+        setLayout(new BorderLayout());
+        getContentPane().setBackground(UiTheme.BACKGROUND);
+
+        // Main panel
+        JPanel mainPanel = new JPanel(new GridBagLayout());
+        mainPanel.setBackground(UiTheme.BACKGROUND);
+        mainPanel.setBorder(BorderFactory.createEmptyBorder(20, 20, 20, 20));
+        GridBagConstraints gbc = new GridBagConstraints();
+        gbc.insets = new Insets(10, 10, 10, 10);
+        gbc.anchor = GridBagConstraints.WEST;
+
+        // Input section
+        JPanel inputPanel = createCardPanel("Input Configuration");
+        GridBagConstraints inputGbc = new GridBagConstraints();
+        inputGbc.insets = new Insets(8, 8, 8, 8);
+        inputGbc.anchor = GridBagConstraints.WEST;
+
+        // Subreddit name
+        inputGbc.gridx = 0; inputGbc.gridy = 0;
+        inputPanel.add(createLabel("Subreddit Name:"), inputGbc);
+        inputGbc.gridx = 1; inputGbc.fill = GridBagConstraints.HORIZONTAL; inputGbc.weightx = 1.0;
+        inputPanel.add(subredditNameField, inputGbc);
+
+        // Subreddit description
+        inputGbc.gridx = 0; inputGbc.gridy = 1; inputGbc.fill = GridBagConstraints.NONE; inputGbc.weightx = 0;
+        inputPanel.add(createLabel("Subreddit Description:"), inputGbc);
+        inputGbc.gridx = 1; inputGbc.fill = GridBagConstraints.BOTH; inputGbc.weightx = 1.0; inputGbc.weighty = 0.3;
+        inputPanel.add(new JScrollPane(subredditDescriptionArea), inputGbc);
+
+        // Subreddit limitations
+        inputGbc.gridx = 0; inputGbc.gridy = 2; inputGbc.fill = GridBagConstraints.NONE; inputGbc.weightx = 0; inputGbc.weighty = 0;
+        inputPanel.add(createLabel("Subreddit Limitations:"), inputGbc);
+        inputGbc.gridx = 1; inputGbc.fill = GridBagConstraints.BOTH; inputGbc.weightx = 1.0; inputGbc.weighty = 0.3;
+        inputPanel.add(new JScrollPane(limitationsArea), inputGbc);
+
+        // Topic (optional)
+        inputGbc.gridx = 0; inputGbc.gridy = 3; inputGbc.fill = GridBagConstraints.NONE; inputGbc.weightx = 0; inputGbc.weighty = 0;
+        inputPanel.add(createLabel("Topic (Optional):"), inputGbc);
+        inputGbc.gridx = 1; inputGbc.fill = GridBagConstraints.HORIZONTAL; inputGbc.weightx = 1.0;
+        inputPanel.add(topicField, inputGbc);
+
+        // Add input panel to main panel
+        gbc.gridx = 0; gbc.gridy = 0; gbc.fill = GridBagConstraints.BOTH; gbc.weightx = 1.0; gbc.weighty = 0.4;
+        mainPanel.add(inputPanel, gbc);
+
+        // Generated content section: only the empty card is part of the skeleton window
+        outputPanel = createCardPanel("Generated Content");
+
+        // Add output panel to main panel
+        gbc.gridx = 0; gbc.gridy = 1; gbc.fill = GridBagConstraints.BOTH; gbc.weightx = 1.0; gbc.weighty = 0.6;
+        mainPanel.add(outputPanel, gbc);
+
+        add(mainPanel, BorderLayout.CENTER);
+
+        // Bottom panel with buttons and status
+        JPanel bottomPanel = createBottomPanel();
+        add(bottomPanel, BorderLayout.SOUTH);
+
+        pack();
+        setLocationRelativeTo(null);
+        setResizable(true);
+        setMinimumSize(new Dimension(750, 850));
+    }
+
+    /**
+     * Builds the secondary components once the skeleton window is on screen.
+     * Safe to call more than once; also invoked lazily by anything that touches the output area.
+     */
+    public void completeDeferredLayout() {
+        if (outputPanelBuilt) {
+            return;
+        }
+        outputPanelBuilt = true;
+
+        // Generated content display
+        // Capacities sized for a typical title and a 300-800 word post, to avoid regrowing while appending
+        generatedTitleArea = createOutputTextArea(2, 50, 512);
+        generatedContentArea = createOutputTextArea(12, 50, 16 * 1024);
+
+        copyTitleButton = createTertiaryButton("Copy Title", 100, 30);
+        copyTitleButton.setEnabled(false);
+        copyContentButton = createTertiaryButton("Copy Content", 120, 30);
+        copyContentButton.setEnabled(false);
+        copyTitleButton.addActionListener(e -> onCopyTitle());
+        copyContentButton.addActionListener(e -> onCopyContent());
+
+        GridBagConstraints outputGbc = new GridBagConstraints();
+        outputGbc.insets = new Insets(8, 8, 8, 8);
+        outputGbc.anchor = GridBagConstraints.WEST;
+
+        // Generated title
+        outputGbc.gridx = 0; outputGbc.gridy = 0;
+        outputPanel.add(createLabel("Generated Title:"), outputGbc);
+        outputGbc.gridx = 1; outputGbc.anchor = GridBagConstraints.EAST;
+        outputPanel.add(copyTitleButton, outputGbc);
+
+        outputGbc.gridx = 0; outputGbc.gridy = 1; outputGbc.gridwidth = 2; outputGbc.fill = GridBagConstraints.BOTH;
+        outputGbc.weightx = 1.0; outputGbc.weighty = 0.2; outputGbc.anchor = GridBagConstraints.WEST;
+        outputPanel.add(new JScrollPane(generatedTitleArea), outputGbc);
+
+        // Generated content
+        outputGbc.gridx = 0; outputGbc.gridy = 2; outputGbc.gridwidth = 1; outputGbc.fill = GridBagConstraints.NONE;
+        outputGbc.weightx = 0; outputGbc.weighty = 0;
+        outputPanel.add(createLabel("Generated Content:"), outputGbc);
+        outputGbc.gridx = 1; outputGbc.anchor = GridBagConstraints.EAST;
+        outputPanel.add(copyContentButton, outputGbc);
+
+        outputGbc.gridx = 0; outputGbc.gridy = 3; outputGbc.gridwidth = 2; outputGbc.fill = GridBagConstraints.BOTH;
+        outputGbc.weightx = 1.0; outputGbc.weighty = 0.8; outputGbc.anchor = GridBagConstraints.WEST;
+        outputPanel.add(new JScrollPane(generatedContentArea), outputGbc);
+
+        outputPanel.revalidate();
+        outputPanel.repaint();
+    }
+
+    /**
+     * Registers a callback that runs once, right after the window paints its first frame
+     */
+    public void onFirstFrame(Runnable callback) {
+        this.firstFrameCallback = callback;
+    }
+
+    @Override
+    public void paint(Graphics g) {
+        super.paint(g);
+        if (firstFrameCallback != null) {
+            Runnable callback = firstFrameCallback;
+            firstFrameCallback = null;
+            callback.run();
+        }
+    }
+
+    private JPanel createCardPanel(String title) {
+        JPanel panel = new JPanel(new GridBagLayout()) {
+            @Override
+            protected void paintComponent(Graphics g) {
+                super.paintComponent(g);
+                RenderCache.SHARED.paint(g, "card", null, getWidth(), getHeight(), (g2, w, h) -> {
+                    g2.setColor(UiTheme.CARD);
+                    g2.fillRoundRect(0, 0, w, h, 20, 20);
+                    g2.setColor(UiTheme.CARD_BORDER);
+                    g2.drawRoundRect(0, 0, w - 1, h - 1, 20, 20);
+                });
+            }
+        };
+        panel.setOpaque(false);
+        panel.setBorder(BorderFactory.createTitledBorder(
+                BorderFactory.createEmptyBorder(15, 15, 15, 15),
+                title,
+                TitledBorder.DEFAULT_JUSTIFICATION,
+                TitledBorder.DEFAULT_POSITION,
+                UiTheme.BOLD_14,
+                UiTheme.PRIMARY
+        ));
+        return panel;
+    }
+
+    private JLabel createLabel(String text) {
+        JLabel label = new JLabel(text);
+        label.setFont(UiTheme.BOLD_12);
+        label.setForeground(UiTheme.SECONDARY);
+        return label;
+    }
+
+    private JPanel createBottomPanel() {
+        JPanel bottomPanel = new JPanel(new BorderLayout());
+        bottomPanel.setBackground(UiTheme.BACKGROUND);
+        bottomPanel.setBorder(BorderFactory.createEmptyBorder(10, 20, 20, 20));
+
+        // Button panel
+        JPanel buttonPanel = new JPanel(new FlowLayout(FlowLayout.CENTER, 15, 10));
+        buttonPanel.setOpaque(false);
+        buttonPanel.add(generatePostButton);
+        buttonPanel.add(clearFormButton);
+        buttonPanel.add(exportHistoryButton);
+        buttonPanel.add(archivePostsButton);
+
+        // Status panel
+        JPanel statusPanel = new JPanel(new FlowLayout(FlowLayout.LEFT, 10, 5));
+        statusPanel.setOpaque(false);
+        statusPanel.add(statusLabel);
+        statusPanel.add(Box.createHorizontalStrut(20));
+        statusPanel.add(progressBar);
+
+        // The prompt size stays right-aligned so status messages of any length do not move it
+        JPanel statusBar = new JPanel(new BorderLayout());
+        statusBar.setOpaque(false);
+        statusBar.add(statusPanel, BorderLayout.CENTER);
+        statusBar.add(promptSizeLabel, BorderLayout.EAST);
+
+        bottomPanel.add(buttonPanel, BorderLayout.CENTER);
+        bottomPanel.add(statusBar, BorderLayout.SOUTH);
+
+        return bottomPanel;
+    }
+
+    private void applyModernStyling() {
+        // Set application-wide font
+        Font segoeUI = UiTheme.PLAIN_14;
+        UIManager.put("Button.font", segoeUI);
+        UIManager.put("Label.font", segoeUI);
+        UIManager.put("TextField.font", segoeUI);
+        UIManager.put("TextArea.font", segoeUI);
+        UIManager.put("TitledBorder.font", UiTheme.BOLD_14);
+    }
+
+    private void setupEventHandlers() {
+        // Button handlers (will be implemented in controller)
+        generatePostButton.addActionListener(e -> onGeneratePost());
+        clearFormButton.addActionListener(e -> onClearForm());
+    }
+
+    private void setDefaultValues() {
+        // Set some helpful examples as placeholders
+        fillForm("AmItheAsshole",
+                "A subreddit for people to ask if they were the asshole in a particular situation. Users share personal conflicts and ask the community to judge their actions.",
+                "Posts are limited to 3,000 characters. No posts about relationships, ending friendships, violence, food tampering, DUIs, or property damage.",
+                "");
+
+        statusLabel.setText("Enter subreddit information and click Generate");
+    }
+
+    // Event handler methods (to be implemented by controller)
+    private void onGeneratePost() {
+        // TODO: Implement in controller
+        updateStatus("Generating post... Please wait", Color.BLUE);
+        showProgress(true);
+    }
+
+    private void onClearForm() {
+        clearAllFields();
+        updateStatus("Form cleared", UiTheme.SUCCESS);
+    }
+
+    private void onCopyTitle() {
+        if (generatedTitleArea.hasVisibleText()) {
+            java.awt.Toolkit.getDefaultToolkit().getSystemClipboard()
+                    .setContents(generatedTitleArea.createTransferable(), null);
+            updateStatus("Title copied to clipboard", UiTheme.SUCCESS);
+        }
+    }
+
+    private void onCopyContent() {
+        if (generatedContentArea.hasVisibleText()) {
+            java.awt.Toolkit.getDefaultToolkit().getSystemClipboard()
+                    .setContents(generatedContentArea.createTransferable(), null);
+            updateStatus("Content copied to clipboard", UiTheme.SUCCESS);
+        }
+    }
+
+    private void clearAllFields() {
+        fillForm("", "", "", "");
+        completeDeferredLayout();
+        generatedTitleArea.clearText();
+        generatedContentArea.clearText();
+
+        copyTitleButton.setEnabled(false);
+        copyContentButton.setEnabled(false);
+
+        setDefaultValues();
+    }
+
+    // Utility methods for controller interaction
+    public void updateStatus(String message, Color color) {
+        statusLabel.setText(message);
+        statusLabel.setForeground(color);
+    }
+
+    public void showProgress(boolean show) {
+        progressBar.setVisible(show);
+        generatePostButton.setEnabled(!show);
+        if (show) {
+            progressBar.setIndeterminate(true);
+        } else {
+            progressBar.setIndeterminate(false);
+        }
+    }
+
+    public void setGeneratedContent(String title, String content) {
+        completeDeferredLayout();
+        generatedTitleArea.replaceText(title);
+        generatedContentArea.replaceText(content);
+        copyTitleButton.setEnabled(true);
+        copyContentButton.setEnabled(true);
+        showProgress(false);
+        updateStatus("Post generated successfully!", UiTheme.SUCCESS);
+    }
+
+    /**
+     * Prepares the output area for a streamed response; setGeneratedContent replaces it once the post is parsed
+     */
+    public void beginStreamingContent(String title) {
+        completeDeferredLayout();
+        generatedTitleArea.replaceText(title);
+        generatedContentArea.clearText();
+        copyTitleButton.setEnabled(true);
+        copyContentButton.setEnabled(false);
+    }
+
+    /**
+     * Empties the output area, e.g. when a streamed response fails before it becomes a post
+     */
+    public void clearGeneratedContent() {
+        completeDeferredLayout();
+        generatedTitleArea.clearText();
+        generatedContentArea.clearText();
+        copyTitleButton.setEnabled(false);
+        copyContentButton.setEnabled(false);
+    }
+
+    /**
+     * Appends a fragment of streamed content; must be called on the EDT
+     */
+    public void appendGeneratedContent(String chunk) {
+        completeDeferredLayout();
+        generatedContentArea.appendChunk(chunk);
+        copyContentButton.setEnabled(true);
+    }
+
+    public void showError(String errorMessage) {
+        updateStatus("Error: " + errorMessage, Color.RED);
+        showProgress(false);
+    }
+
+    /**
+     * Replaces the form inputs, e.g. with a restored draft
+     */
+    public void setFormValues(String subredditName, String subredditDescription, String limitations, String topic) {
+        fillForm(subredditName, subredditDescription, limitations, topic);
+    }
+
+    // Programmatic fills (restore, defaults, clear) are not user edits, so edit listeners are paused for them
+    private void fillForm(String subredditName, String subredditDescription, String limitations, String topic) {
+        fillingForm = true;
+        try {
+            subredditNameField.setText(subredditName);
+            subredditDescriptionArea.setText(subredditDescription);
+            limitationsArea.setText(limitations);
+            topicField.setText(topic);
+        } finally {
+            fillingForm = false;
+        }
+    }
+
+    /**
+     * Runs the callback on the EDT after every change of the form inputs, including the ones made by
+     * the view itself (restore, defaults, Clear); it should return quickly
+     */
+    public void addFormChangeListener(Runnable callback) {
+        addInputListener(callback, false);
+    }
+
+    /**
+     * Like addFormChangeListener, but only for changes the user makes; the view filling the form
+     * itself does not call it
+     */
+    public void addFormEditListener(Runnable callback) {
+        addInputListener(callback, true);
+    }
+
+    private void addInputListener(Runnable callback, boolean editsOnly) {
+        DocumentListener listener = new DocumentListener() {
+            @Override
+            public void insertUpdate(DocumentEvent e) {
+                if (!editsOnly || !fillingForm) {
+                    callback.run();
+                }
+            }
+
+            @Override
+            public void removeUpdate(DocumentEvent e) {
+                if (!editsOnly || !fillingForm) {
+                    callback.run();
+                }
+            }
+
+            @Override
+            public void changedUpdate(DocumentEvent e) {
+                // Attribute changes do not alter the text
+            }
+        };
+        subredditNameField.getDocument().addDocumentListener(listener);
+        subredditDescriptionArea.getDocument().addDocumentListener(listener);
+        limitationsArea.getDocument().addDocumentListener(listener);
+        topicField.getDocument().addDocumentListener(listener);
+    }
+
+    /**
+     * Shows the estimated prompt size next to the status, highlighted when it is a warning
+     */
+    public void showPromptSize(String text, boolean warning) {
+        promptSizeLabel.setText(text);
+        promptSizeLabel.setForeground(warning ? Color.RED : Color.GRAY);
+    }
+
+    /**
+     * Lengths of the subreddit name, description, limitations and topic inputs, untrimmed.
+     * Reads the document lengths only, so it is cheap enough to call on every keystroke.
+     */
+    public int[] getInputLengths() {
+        return new int[]{
+                subredditNameField.getDocument().getLength(),
+                subredditDescriptionArea.getDocument().getLength(),
+                limitationsArea.getDocument().getLength(),
+                topicField.getDocument().getLength()};
+    }
+
+    // Getters for controller access
+    public String getSubredditName() {
+        return subredditNameField.getText().trim();
+    }
+
+    public String getSubredditDescription() {
+        return subredditDescriptionArea.getText().trim();
+    }
+
+    public String getLimitations() {
+        return limitationsArea.getText().trim();
+    }
+
+    public String getTopic() {
+        return topicField.getText().trim();
+    }
+
+    public String getGeneratedTitle() {
+        completeDeferredLayout();
+        return generatedTitleArea.getFullText();
+    }
+
+    public String getGeneratedContent() {
+        completeDeferredLayout();
+        return generatedContentArea.getFullText();
+    }
+
+    // Public hooks for controller
+    public void addGeneratePostListener(ActionListener listener) {
+        generatePostButton.addActionListener(listener);
+    }
+
+    public void addClearListener(ActionListener listener) {
+        clearFormButton.addActionListener(listener);
+    }
+
+    public void addExportHistoryListener(ActionListener listener) {
+        exportHistoryButton.addActionListener(listener);
+    }
+
+    public void setExportInProgress(boolean inProgress) {
+        exportHistoryButton.setEnabled(!inProgress);
+    }
+
+    public void addArchivePostsListener(ActionListener listener) {
+        archivePostsButton.addActionListener(listener);
+    }
+
+    public void setArchiveInProgress(boolean inProgress) {
+        archivePostsButton.setEnabled(!inProgress);
+    }
+
+    /**
+     * Asks a yes/no question in a modal dialog; true only for an explicit yes
+     */
+    public boolean confirm(String title, String message) {
+        return JOptionPane.showConfirmDialog(this, message, title, JOptionPane.YES_NO_OPTION,
+                JOptionPane.WARNING_MESSAGE) == JOptionPane.YES_OPTION;
+    }
+
+    /**
+     * Binds Ctrl+Shift+D anywhere in the window to the given diagnostics action
+     */
+    public void addDiagnosticsShortcut(Runnable action) {
+        KeyStroke keyStroke = KeyStroke.getKeyStroke(KeyEvent.VK_D, InputEvent.CTRL_DOWN_MASK | InputEvent.SHIFT_DOWN_MASK);
+        getRootPane().getInputMap(JComponent.WHEN_IN_FOCUSED_WINDOW).put(keyStroke, "showDiagnostics");
+        getRootPane().getActionMap().put("showDiagnostics", new AbstractAction() {
+            @Override
+            public void actionPerformed(ActionEvent e) {
+                action.run();
+            }
+        });
+    }
+
+    // Pressed, rollover and normal looks are cached separately
+    private enum ButtonState {
+        NORMAL, ROLLOVER, PRESSED;
+
+        static ButtonState of(ButtonModel model) {
+            if (model.isPressed()) {
+                return PRESSED;
+            }
+            return model.isRollover() ? ROLLOVER : NORMAL;
+        }
+    }
+
+    // Custom border class for rounded corners
+    private static class RoundedBorder extends AbstractBorder {
+        private final int radius;
+        private final Color color;
+
+        public RoundedBorder(int radius, Color color) {
+            this.radius = radius;
+            this.color = color;
+        }
+
+        @Override
+        public void paintBorder(Component c, Graphics g, int x, int y, int width, int height) {
+            RenderCache.SHARED.paint(g, x, y, "rounded-border", List.of(radius, color), width, height,
+                    (g2d, w, h) -> {
+                        g2d.setColor(color);
+                        g2d.drawRoundRect(0, 0, w - 1, h - 1, radius, radius);
+                    });
+        }
+
+        @Override
+        public Insets getBorderInsets(Component c) {
+            return new Insets(radius + 1, radius + 1, radius + 1, radius + 1);
+        }
+
+        @Override
+        public Insets getBorderInsets(Component c, Insets insets) {
+            insets.left = insets.right = radius + 1;
+            insets.top = insets.bottom = radius + 1;
+            return insets;
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,145 @@
+package com.agustincoding.ragebaitgen.view;
+
+import java.awt.*;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Cache of pre-rendered images for the custom-painted components.
+ * Each component describes its look with a kind, a variant (state, text, colours...) and a size;
+ * the painter only runs the first time that combination is seen, later repaints just blit the image.
+ * Images are rendered at the device scale of the target Graphics so they stay sharp on HiDPI screens.
+ * Only meant to be used from the Event Dispatch Thread.
+ */
+final class RenderCache {
+
+    /**
+     * Paints a component look into a Graphics already set up with antialiasing,
+     * using logical (unscaled) coordinates starting at 0,0
+     */
+    @FunctionalInterface
+    interface Painter {
+        void paint(Graphics2D g2, int width, int height);
+    }
+
+    // Shared by every component of the view
+    static final RenderCache SHARED = new RenderCache(128);
+
+    // Larger surfaces (e.g. a text area holding a long post) are painted directly instead of cached
+    private static final long MAX_CACHED_PIXELS = 1024L * 1024L;
+
+    private record Key(String kind, Object variant, int width, int height, double scaleX, double scaleY) {
+    }
+
+    private final Map<Key, Image> images;
+
+    // Repaint statistics
+    private long hits;
+    private long misses;
+    private long directPaints;
+    private long paintNanos;
+    private long renderNanos;
+
+    RenderCache(int maxEntries) {
+        // Access-ordered map so the least recently painted sizes are evicted first while resizing
+        this.images = new LinkedHashMap<>(32, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, Image> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    void paint(Graphics g, String kind, Object variant, int width, int height, Painter painter) {
+        paint(g, 0, 0, kind, variant, width, height, painter);
+    }
+
+    /**
+     * Draws the cached image for the given look at x,y, rendering it first if needed
+     */
+    void paint(Graphics g, int x, int y, String kind, Object variant, int width, int height, Painter painter) {
+        if (width <= 0 || height <= 0) {
+            return;
+        }
+        long start = System.nanoTime();
+        Graphics2D g2 = (Graphics2D) g;
+        AffineTransform transform = g2.getTransform();
+        double scaleX = transform.getScaleX();
+        double scaleY = transform.getScaleY();
+
+        if ((long) (width * scaleX) * (long) (height * scaleY) > MAX_CACHED_PIXELS) {
+            paintDirect(g2, x, y, width, height, painter);
+            directPaints++;
+            paintNanos += System.nanoTime() - start;
+            return;
+        }
+
+        Key key = new Key(kind, variant, width, height, scaleX, scaleY);
+        Image image = images.get(key);
+        if (image == null) {
+            misses++;
+            long renderStart = System.nanoTime();
+            image = render(g2.getDeviceConfiguration(), width, height, scaleX, scaleY, painter);
+            renderNanos += System.nanoTime() - renderStart;
+            images.put(key, image);
+        } else {
+            hits++;
+        }
+
+        // The image holds device pixels; drawing it at the logical size maps them 1:1 on scaled screens
+        g2.drawImage(image, x, y, width, height, null);
+        paintNanos += System.nanoTime() - start;
+    }
+
+    private Image render(GraphicsConfiguration gc, int width, int height,
+                         double scaleX, double scaleY, Painter painter) {
+        int deviceWidth = (int) Math.ceil(width * scaleX);
+        int deviceHeight = (int) Math.ceil(height * scaleY);
+        BufferedImage image = gc != null
+                ? gc.createCompatibleImage(deviceWidth, deviceHeight, Transparency.TRANSLUCENT)
+                : new BufferedImage(deviceWidth, deviceHeight, BufferedImage.TYPE_INT_ARGB);
+
+        Graphics2D ig = image.createGraphics();
+        try {
+            ig.scale(scaleX, scaleY);
+            applyHints(ig);
+            painter.paint(ig, width, height);
+        } finally {
+            ig.dispose();
+        }
+        return image;
+    }
+
+    private void paintDirect(Graphics2D g2, int x, int y, int width, int height, Painter painter) {
+        Graphics2D direct = (Graphics2D) g2.create();
+        try {
+            direct.translate(x, y);
+            applyHints(direct);
+            painter.paint(direct, width, height);
+        } finally {
+            direct.dispose();
+        }
+    }
+
+    private static void applyHints(Graphics2D g2) {
+        g2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+        g2.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
+    }
+
+    void clear() {
+        images.clear();
+    }
+
+    /**
+     * Summary of the repaint cost so far, e.g. for logging when the window closes
+     */
+    String describeStats() {
+        long paints = hits + misses + directPaints;
+        return "paints=%d, hits=%d, misses=%d, direct=%d, cached=%d, avg paint=%.1fus, render time=%.1fms".formatted(
+                paints, hits, misses, directPaints, images.size(),
+                paints == 0 ? 0.0 : paintNanos / 1_000.0 / paints,
+                renderNanos / 1_000_000.0);
+    }
+}
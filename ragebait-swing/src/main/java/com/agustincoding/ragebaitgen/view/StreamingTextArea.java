@@ -0,0 +1,205 @@
+package com.agustincoding.ragebaitgen.view;
+
+import javax.swing.*;
+import javax.swing.plaf.basic.BasicTextAreaUI;
+import javax.swing.text.*;
+import java.awt.datatransfer.StringSelection;
+import java.awt.datatransfer.Transferable;
+
+/**
+ * Read-only text area for generated output that grows by appends instead of setText.
+ * - The document is backed by a preallocated GapContent, so appends at the end do not reallocate
+ * - Long texts are inserted in chunks over several EDT turns, keeping the UI responsive;
+ *   flushPendingText() inserts the rest at once for callers that need the whole text
+ * - With line wrap on, LazyWrappedView only breaks the paragraphs it paints into lines and
+ *   estimates the height of the others (under Look and Feels with a plain Basic text area delegate)
+ * - Copying snapshots the text, so later edits do not change what gets pasted
+ */
+class StreamingTextArea extends JTextArea {
+
+    // Characters inserted per EDT turn when a whole text is replaced at once
+    private static final int CHUNK_SIZE = 16 * 1024;
+
+    // Incremented on every replace so pending chunks of an older text stop inserting
+    private int generation;
+    // Text still being inserted by replaceText, and the offset of its next chunk
+    private String pendingText;
+    private int pendingOffset;
+
+    StreamingTextArea(int rows, int columns, int initialCapacity) {
+        super(new PlainDocument(new GapContent(initialCapacity)), null, rows, columns);
+        // Appends must not drag the viewport along; the view stays where the user left it
+        ((DefaultCaret) getCaret()).setUpdatePolicy(DefaultCaret.NEVER_UPDATE);
+    }
+
+    /**
+     * Uses LazyWrapUI when the Look and Feel's text area delegate is the plain Basic one, which
+     * LazyWrapUI extends and so installs the same colors, border, caret and key bindings; any other
+     * delegate is kept as installed, wrapping with the stock WrappedPlainView
+     */
+    @Override
+    public void updateUI() {
+        if (UIManager.getDefaults().getUIClass(getUIClassID()) == BasicTextAreaUI.class) {
+            setUI(new LazyWrapUI());
+            invalidate();
+        } else {
+            super.updateUI();
+        }
+    }
+
+    /**
+     * Replaces the current text, inserting it in chunks on the following EDT turns
+     */
+    void replaceText(String text) {
+        generation++;
+        clearDocument();
+        pendingText = text == null ? "" : text;
+        pendingOffset = 0;
+        appendInChunks(generation);
+    }
+
+    /**
+     * Appends a streamed fragment right away; fragments are expected to be small.
+     * The rest of a text passed to replaceText is inserted first.
+     */
+    void appendChunk(String chunk) {
+        if (chunk == null || chunk.isEmpty()) {
+            return;
+        }
+        flushPendingText();
+        insertAtEnd(chunk);
+    }
+
+    void clearText() {
+        generation++;
+        pendingText = null;
+        clearDocument();
+    }
+
+    /**
+     * Inserts whatever replaceText has not inserted yet, so the document holds the whole text
+     */
+    void flushPendingText() {
+        if (pendingText == null) {
+            return;
+        }
+        String rest = pendingText.substring(pendingOffset);
+        // Chunks already queued for this text find nothing left to insert
+        pendingText = null;
+        insertAtEnd(rest);
+    }
+
+    private void insertAtEnd(String text) {
+        if (text.isEmpty()) {
+            return;
+        }
+        Document doc = getDocument();
+        try {
+            doc.insertString(doc.getLength(), text, null);
+        } catch (BadLocationException e) {
+            // The end offset is always valid
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private void clearDocument() {
+        Document doc = getDocument();
+        try {
+            doc.remove(0, doc.getLength());
+        } catch (BadLocationException e) {
+            throw new IllegalStateException(e);
+        }
+        setCaretPosition(0);
+    }
+
+    private void appendInChunks(int expectedGeneration) {
+        if (expectedGeneration != generation || pendingText == null) {
+            return;
+        }
+        String text = pendingText;
+        int offset = pendingOffset;
+        int end = Math.min(text.length(), offset + CHUNK_SIZE);
+        // Prefer ending a chunk at a line break so each paragraph is wrapped once
+        if (end < text.length()) {
+            int newline = text.lastIndexOf('\n', end);
+            if (newline > offset) {
+                end = newline + 1;
+            }
+        }
+        if (end < text.length()) {
+            pendingOffset = end;
+            SwingUtilities.invokeLater(() -> appendInChunks(expectedGeneration));
+        } else {
+            pendingText = null;
+        }
+        insertAtEnd(text.substring(offset, end));
+    }
+
+    /**
+     * Checks for non-whitespace text by scanning the model, without building a String
+     */
+    boolean hasVisibleText() {
+        flushPendingText();
+        Document doc = getDocument();
+        Segment segment = new Segment();
+        segment.setPartialReturn(true);
+        int offset = 0;
+        int length = doc.getLength();
+        try {
+            while (offset < length) {
+                doc.getText(offset, length - offset, segment);
+                for (char c = segment.first(); c != Segment.DONE; c = segment.next()) {
+                    if (!Character.isWhitespace(c)) {
+                        return true;
+                    }
+                }
+                offset += segment.count;
+            }
+        } catch (BadLocationException e) {
+            return false;
+        }
+        return false;
+    }
+
+    /**
+     * Returns the whole text, including chunks replaceText has not inserted yet
+     */
+    String getFullText() {
+        flushPendingText();
+        return getText();
+    }
+
+    /**
+     * Clipboard contents holding a copy of the whole text, taken now on the EDT.
+     * The model is read through one Segment: output only grows at the end, so the gap sits after
+     * the text and the Segment shares the content array; the String is then the only copy made.
+     */
+    Transferable createTransferable() {
+        flushPendingText();
+        Document doc = getDocument();
+        Segment segment = new Segment();
+        try {
+            doc.getText(0, doc.getLength(), segment);
+        } catch (BadLocationException e) {
+            // The whole document is always a valid range
+            throw new IllegalStateException(e);
+        }
+        return new StringSelection(new String(segment.array, segment.offset, segment.count));
+    }
+
+    /**
+     * Text area UI that wraps with LazyWrappedView. Bidirectional text keeps the default views,
+     * which lay it out per run.
+     */
+    private static final class LazyWrapUI extends BasicTextAreaUI {
+        @Override
+        public View create(Element elem) {
+            JTextArea area = (JTextArea) getComponent();
+            Object i18n = elem.getDocument().getProperty("i18n");
+            if (area.getLineWrap() && !Boolean.TRUE.equals(i18n)) {
+                return new LazyWrappedView(elem, area.getWrapStyleWord());
+            }
+            return super.create(elem);
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.agustincoding.ragebaitgen.view;
+
+import java.awt.*;
+
+/**
+ * Shared fonts and colours for the view.
+ * Every component used to build its own "Segoe UI" instance and derive its pressed and
+ * rollover colours on each repaint; resolving them once lets components share them.
+ */
+final class UiTheme {
+
+    static final String FONT_FAMILY = "Segoe UI";
+
+    static final Font PLAIN_12 = new Font(FONT_FAMILY, Font.PLAIN, 12);
+    static final Font PLAIN_14 = new Font(FONT_FAMILY, Font.PLAIN, 14);
+    static final Font BOLD_12 = new Font(FONT_FAMILY, Font.BOLD, 12);
+    static final Font BOLD_14 = new Font(FONT_FAMILY, Font.BOLD, 14);
+
+    // Base palette
+    static final Color PRIMARY = new Color(255, 69, 0); // Reddit orange
+    static final Color SECONDARY = new Color(30, 30, 30); // Dark gray
+    static final Color ACCENT = new Color(74, 119, 184); // Blue accent
+    static final Color BACKGROUND = new Color(240, 240, 242); // Light gray background
+    static final Color CARD = Color.WHITE;
+    static final Color SUCCESS = new Color(0, 128, 0);
+
+    // Surfaces and borders
+    static final Color FIELD_BACKGROUND = new Color(248, 248, 248);
+    static final Color FIELD_BORDER = new Color(200, 200, 200);
+    static final Color OUTPUT_BORDER = new Color(180, 180, 180);
+    static final Color CARD_BORDER = new Color(220, 220, 220);
+    static final Color PROGRESS_TRACK = new Color(220, 220, 220);
+
+    // Button states, derived once instead of on every repaint
+    static final Color PRIMARY_PRESSED = PRIMARY.darker();
+    static final Color PRIMARY_ROLLOVER = PRIMARY.brighter();
+    static final Color SECONDARY_BUTTON = Color.WHITE;
+    static final Color SECONDARY_BUTTON_PRESSED = new Color(220, 220, 220);
+    static final Color SECONDARY_BUTTON_ROLLOVER = new Color(245, 245, 245);
+    static final Color TERTIARY_BUTTON = FIELD_BACKGROUND;
+    static final Color TERTIARY_BUTTON_PRESSED = new Color(230, 230, 230);
+    static final Color TERTIARY_BUTTON_ROLLOVER = new Color(240, 240, 240);
+
+    private UiTheme() {
+        // Constants holder
+    }
+}
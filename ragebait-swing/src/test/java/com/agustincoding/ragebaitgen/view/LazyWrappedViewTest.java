@@ -0,0 +1,235 @@
+package com.agustincoding.ragebaitgen.view;
+
+import org.junit.jupiter.api.Test;
+
+import javax.swing.*;
+import javax.swing.text.BadLocationException;
+import javax.swing.text.Document;
+import javax.swing.text.View;
+import java.awt.*;
+import java.awt.geom.Rectangle2D;
+import java.awt.image.BufferedImage;
+import java.lang.reflect.InvocationTargetException;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Checks LazyWrappedView against the WrappedPlainView a plain JTextArea wraps with: once every
+ * paragraph has been painted, line counts, heights and position mapping must be the same.
+ */
+class LazyWrappedViewTest {
+
+    private static final Font FONT = new Font(Font.DIALOG, Font.PLAIN, 13);
+    private static final int STRIP_HEIGHT = 300;
+
+    @Test
+    void wrapsWithTheLazyViewOnlyWhenLineWrapIsOn() throws Exception {
+        onEdt(() -> {
+            StreamingTextArea area = wrappingArea(new StreamingTextArea(5, 20, 64));
+            assertTrue(rootView(area) instanceof LazyWrappedView);
+
+            area.setLineWrap(false);
+            assertFalse(rootView(area) instanceof LazyWrappedView);
+        });
+    }
+
+    @Test
+    void estimatesParagraphsUntilTheyArePainted() throws Exception {
+        onEdt(() -> {
+            String text = text(600, 1);
+            StreamingTextArea lazy = wrappingArea(new StreamingTextArea(5, 20, text.length()));
+            JTextArea stock = wrappingArea(new JTextArea());
+            lazy.replaceText(text);
+            lazy.flushPendingText();
+            stock.setText(text);
+            layOut(lazy, 420);
+            layOut(stock, 420);
+
+            // Word wrap leaves space at line ends that the estimate does not count
+            assertTrue(lazy.getPreferredSize().height != stock.getPreferredSize().height);
+            paintAll(lazy);
+            assertSameLayout(stock, lazy);
+        });
+    }
+
+    @Test
+    void matchesWrappedPlainViewAfterEditsAndWidthChanges() throws Exception {
+        onEdt(() -> {
+            String text = text(300, 2);
+            StreamingTextArea lazy = wrappingArea(new StreamingTextArea(5, 20, text.length()));
+            JTextArea stock = wrappingArea(new JTextArea());
+            for (JTextArea area : new JTextArea[]{lazy, stock}) {
+                area.setText(text);
+                layOut(area, 500);
+            }
+            paintAll(lazy);
+            assertSameLayout(stock, lazy);
+
+            // Inside a paragraph, across paragraphs, and splitting and joining paragraphs
+            edit(lazy, stock, doc -> doc.insertString(4_000, "a few inserted words ", null));
+            edit(lazy, stock, doc -> doc.remove(9_000, 1_500));
+            edit(lazy, stock, doc -> doc.insertString(12_000, " split here\nand\n\nagain ", null));
+            edit(lazy, stock, doc -> {
+                String current = doc.getText(0, doc.getLength());
+                int newline = current.indexOf('\n', 15_000);
+                doc.remove(newline - 5, 10);
+            });
+            edit(lazy, stock, doc -> doc.insertString(doc.getLength(), "\ntrailing paragraph", null));
+            edit(lazy, stock, doc -> doc.remove(0, 700));
+
+            for (int width : new int[]{360, 611, 200}) {
+                layOut(lazy, width);
+                layOut(stock, width);
+                paintAll(lazy);
+                assertSameLayout(stock, lazy);
+            }
+        });
+    }
+
+    @Test
+    void streamedAppendsMatchASingleSetText() throws Exception {
+        onEdt(() -> {
+            String text = text(200, 3);
+            StreamingTextArea lazy = wrappingArea(new StreamingTextArea(5, 20, 16));
+            JTextArea stock = wrappingArea(new JTextArea());
+            layOut(lazy, 450);
+            for (int i = 0; i < text.length(); i += 37) {
+                lazy.appendChunk(text.substring(i, Math.min(text.length(), i + 37)));
+                if (i % 3_700 == 0) {
+                    paintAll(lazy);
+                }
+            }
+            stock.setText(text);
+            layOut(lazy, 450);
+            layOut(stock, 450);
+            paintAll(lazy);
+            assertSameLayout(stock, lazy);
+        });
+    }
+
+    private interface Edit {
+        void apply(Document doc) throws BadLocationException;
+    }
+
+    private interface EdtBody {
+        void run() throws Exception;
+    }
+
+    private static void edit(JTextArea lazy, JTextArea stock, Edit edit) throws BadLocationException {
+        edit.apply(lazy.getDocument());
+        edit.apply(stock.getDocument());
+        layOut(lazy, lazy.getWidth());
+        layOut(stock, stock.getWidth());
+        paintAll(lazy);
+        assertSameLayout(stock, lazy);
+    }
+
+    private static void assertSameLayout(JTextArea expected, JTextArea actual) throws BadLocationException {
+        expected.setSize(expected.getWidth(), expected.getPreferredSize().height);
+        actual.setSize(actual.getWidth(), actual.getPreferredSize().height);
+        assertEquals(expected.getPreferredSize().height, actual.getPreferredSize().height, "preferred height");
+
+        View expectedRoot = rootView(expected);
+        View actualRoot = rootView(actual);
+        assertEquals(expectedRoot.getViewCount(), actualRoot.getViewCount(), "paragraphs");
+        for (int i = 0; i < expectedRoot.getViewCount(); i++) {
+            assertEquals(expectedRoot.getView(i).getPreferredSpan(View.Y_AXIS),
+                    actualRoot.getView(i).getPreferredSpan(View.Y_AXIS), "lines of paragraph " + i);
+        }
+
+        Random random = new Random(7);
+        int length = expected.getDocument().getLength();
+        for (int i = 0; i < 500; i++) {
+            int pos = random.nextInt(length + 1);
+            Rectangle2D e = expected.modelToView2D(pos);
+            Rectangle2D a = actual.modelToView2D(pos);
+            assertEquals(e.getY(), a.getY(), "y of " + pos);
+            assertTrue(Math.abs(e.getX() - a.getX()) < 0.5, "x of " + pos + ": " + e + " vs " + a);
+
+            Point point = new Point((int) e.getX() + 2, (int) e.getY() + 3);
+            assertEquals(expected.viewToModel2D(point), actual.viewToModel2D(point), "offset at " + point);
+        }
+        Point pastTheEnd = new Point(expected.getWidth() - 1, expected.getHeight() - 1);
+        assertEquals(expected.viewToModel2D(pastTheEnd), actual.viewToModel2D(pastTheEnd), "offset past the end");
+    }
+
+    private static <T extends JTextArea> T wrappingArea(T area) {
+        area.setFont(FONT);
+        area.setLineWrap(true);
+        area.setWrapStyleWord(true);
+        return area;
+    }
+
+    private static View rootView(JTextArea area) {
+        return area.getUI().getRootView(area).getView(0);
+    }
+
+    private static void layOut(JTextArea area, int width) {
+        area.setSize(width, Short.MAX_VALUE);
+        area.setSize(width, area.getPreferredSize().height);
+    }
+
+    // Paints in strips, as scrolling would, until painting no longer changes the height
+    private static void paintAll(JTextArea area) {
+        BufferedImage image = new BufferedImage(area.getWidth(), STRIP_HEIGHT, BufferedImage.TYPE_INT_RGB);
+        for (int round = 0; round < 5; round++) {
+            int height = area.getPreferredSize().height;
+            area.setSize(area.getWidth(), height);
+            for (int y = 0; y < height; y += STRIP_HEIGHT) {
+                Graphics2D g = image.createGraphics();
+                g.translate(0, -y);
+                g.setClip(0, y, area.getWidth(), STRIP_HEIGHT);
+                area.paint(g);
+                g.dispose();
+            }
+            if (area.getPreferredSize().height == height) {
+                return;
+            }
+        }
+    }
+
+    // Paragraphs of random words with some tabs and blank lines
+    private static String text(int paragraphs, long seed) {
+        Random random = new Random(seed);
+        StringBuilder text = new StringBuilder();
+        for (int p = 0; p < paragraphs; p++) {
+            int words = 1 + random.nextInt(160);
+            for (int w = 0; w < words; w++) {
+                int length = 1 + random.nextInt(11);
+                for (int i = 0; i < length; i++) {
+                    text.append((char) ('a' + random.nextInt(26)));
+                }
+                text.append(random.nextInt(25) == 0 ? '\t' : ' ');
+            }
+            text.append('\n');
+            if (random.nextInt(6) == 0) {
+                text.append('\n');
+            }
+        }
+        return text.toString();
+    }
+
+    private static void onEdt(EdtBody body) throws Exception {
+        Exception[] failure = new Exception[1];
+        try {
+            SwingUtilities.invokeAndWait(() -> {
+                try {
+                    body.run();
+                } catch (Exception e) {
+                    failure[0] = e;
+                }
+            });
+        } catch (InvocationTargetException e) {
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+        if (failure[0] != null) {
+            throw failure[0];
+        }
+    }
+}
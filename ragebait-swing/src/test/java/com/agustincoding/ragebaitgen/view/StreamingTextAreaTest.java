@@ -0,0 +1,46 @@
+package com.agustincoding.ragebaitgen.view;
+
+import org.junit.jupiter.api.Test;
+
+import javax.swing.*;
+import java.awt.datatransfer.DataFlavor;
+import java.awt.datatransfer.Transferable;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class StreamingTextAreaTest {
+
+    // Several CHUNK_SIZE chunks, so replaceText leaves most of it for later EDT turns
+    private static final String LONG_TEXT = "Line of generated output\n".repeat(4_000);
+
+    @Test
+    void readsTheWholeTextBeforeQueuedChunksAreInserted() throws Exception {
+        AtomicReference<String> full = new AtomicReference<>();
+        SwingUtilities.invokeAndWait(() -> {
+            StreamingTextArea area = new StreamingTextArea(5, 20, 16);
+            area.replaceText(LONG_TEXT);
+            assertTrue(area.getDocument().getLength() < LONG_TEXT.length(), "inserted in chunks");
+
+            full.set(area.getFullText());
+            area.appendChunk("tail");
+            assertEquals(LONG_TEXT + "tail", area.getText());
+        });
+        assertEquals(LONG_TEXT, full.get());
+    }
+
+    @Test
+    void copiesASnapshotThatLaterEditsDoNotChange() throws Exception {
+        AtomicReference<Transferable> copied = new AtomicReference<>();
+        SwingUtilities.invokeAndWait(() -> {
+            StreamingTextArea area = new StreamingTextArea(5, 20, 16);
+            area.replaceText(LONG_TEXT);
+            copied.set(area.createTransferable());
+            area.clearText();
+            area.replaceText("Another post");
+        });
+        // Read off the EDT, the way another application's paste would
+        assertEquals(LONG_TEXT, copied.get().getTransferData(DataFlavor.stringFlavor));
+    }
+}